@@ -0,0 +1,31 @@
+package org.norsh.model.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * <p>
+ * Accepts the regular JMH command line and always attaches the {@link GCProfiler}, so allocation rate per operation
+ * ({@code gc.alloc.rate.norm}) is reported next to throughput and latency.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class BenchmarkRunner {
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		new Runner(new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
@@ -0,0 +1,68 @@
+package org.norsh.model.benchmarks;
+
+import java.math.BigDecimal;
+
+import org.norsh.model.dtos.elements.ElementCreateDto;
+import org.norsh.model.dtos.transactions.PaymentCreateDto;
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.dtos.transactions.TransactionGetDto;
+import org.norsh.model.types.ElementType;
+
+/**
+ * Shared inputs for the model benchmarks.
+ * <p>
+ * Each factory returns a fresh DTO so that benchmarks mutating {@code hash} or {@code requestId} during
+ * {@code validate()} always start from the same state.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+final class Fixtures {
+	static final String RECIPIENT = "3f5a9c1e7b2d4a6f8e0c1b3d5f7a9c2e4b6d8f0a1c3e5b7d9f2a4c6e8b0d1f3a";
+	static final String ELEMENT = "9e8d7c6b5a4f3e2d1c0b9a8f7e6d5c4b3a2f1e0d9c8b7a6f5e4d3c2b1a0f9e8d";
+	static final String PUBLIC_KEY = "3056301006072a8648ce3d020106052b8104000a034200044f355bdcb7cc0af728ef3cceb9615d90684bb5b2ca5f859ab0f0b704075871aa385b6b1b8ead809ca67454d9683fcf2ba03456d6fe2c4abe2b07f0fbdbb2f1c1";
+	static final String SIGNATURE = "3045022100c7b4e5a3d2f1e0b9a8c7d6e5f4a3b2c1d0e9f8a7b6c5d4e3f2a1b0c9d8e7f6a502203a4b5c6d7e8f9a0b1c2d3e4f5a6b7c8d9e0f1a2b3c4d5e6f7a8b9c0d1e2f3a4b";
+
+	private Fixtures() {
+	}
+
+	static TransactionCreateDto transaction(boolean valid) {
+		TransactionCreateDto dto = new TransactionCreateDto();
+		dto.setTo(valid ? RECIPIENT : "not-a-hash");
+		dto.setElement(valid ? ELEMENT : ELEMENT.toUpperCase());
+		dto.setVolume(valid ? "1250.75" : "12,5");
+		dto.setNonce(42L);
+		dto.setPublicKey(PUBLIC_KEY);
+		dto.setSignature(SIGNATURE);
+		return dto;
+	}
+
+	static PaymentCreateDto payment(boolean valid) {
+		PaymentCreateDto dto = new PaymentCreateDto();
+		dto.setTo(valid ? RECIPIENT : "not-a-hash");
+		dto.setElement(valid ? ELEMENT : ELEMENT.substring(1));
+		dto.setVolume(valid ? new BigDecimal("1250.75") : new BigDecimal("-1"));
+		dto.setLink("https://norsh.org/pay/42");
+		dto.setNonce(42L);
+		dto.setPublicKey(PUBLIC_KEY);
+		dto.setSignature(SIGNATURE);
+		return dto;
+	}
+
+	static ElementCreateDto element(boolean valid) {
+		ElementCreateDto dto = new ElementCreateDto();
+		dto.setType(ElementType.TOKEN);
+		dto.setSymbol(valid ? "NORSH" : "norsh");
+		dto.setDecimals(8);
+		dto.setInitialSupply(1_000_000L);
+		dto.setPublicKey(PUBLIC_KEY);
+		dto.setSignature(SIGNATURE);
+		return dto;
+	}
+
+	static TransactionGetDto transactionGet(boolean valid) {
+		return new TransactionGetDto(valid ? RECIPIENT : RECIPIENT.replace('a', 'z'));
+	}
+}
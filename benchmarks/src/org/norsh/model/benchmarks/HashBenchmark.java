@@ -0,0 +1,56 @@
+package org.norsh.model.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.hashing.CanonicalHasher;
+import org.norsh.security.Hasher;
+import org.norsh.util.Strings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of building the hash preimage and digesting it, isolated from the field checks in {@code validate()}.
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HashBenchmark {
+	private TransactionCreateDto transaction;
+
+	@Setup
+	public void setup() {
+		transaction = Fixtures.transaction(true);
+	}
+
+	@Benchmark
+	public String transactionConcatenateAndHash() {
+		TransactionCreateDto t = transaction;
+		return Hasher.sha256Hex(Strings.concatenate(t.getTo(), t.getElement(), t.getVolume(), t.getNonce(), t.getPublicKey()));
+	}
+
+	@Benchmark
+	public byte[] transactionCanonicalDigest() {
+		return CanonicalHasher.digest(transaction);
+	}
+
+	@Benchmark
+	public String transactionCanonicalHex() {
+		return CanonicalHasher.toHex(CanonicalHasher.digest(transaction));
+	}
+}
@@ -0,0 +1,94 @@
+package org.norsh.model.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.norsh.exceptions.OperationException;
+import org.norsh.model.dtos.DistributedDto;
+import org.norsh.model.dtos.elements.ElementCreateDto;
+import org.norsh.model.dtos.transactions.PaymentCreateDto;
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.dtos.transactions.TransactionGetDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput and latency of the inbound {@code validate()} paths.
+ * <p>
+ * Every DTO is measured with a valid and an invalid input ({@code valid} parameter). Invalid inputs that raise an
+ * {@link OperationException} are part of the measured cost, since rejected requests are what an ingress node sees
+ * during floods.
+ * </p>
+ *
+ * <h2>Running:</h2>
+ * <pre>
+ * mvn -f benchmarks/pom.xml package
+ * java -jar benchmarks/target/benchmarks.jar ValidateBenchmark -prof gc
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidateBenchmark {
+	@Param({ "true", "false" })
+	private boolean valid;
+
+	private TransactionCreateDto transaction;
+	private PaymentCreateDto payment;
+	private ElementCreateDto element;
+	private TransactionGetDto transactionGet;
+
+	@Setup
+	public void setup() {
+		transaction = Fixtures.transaction(valid);
+		payment = Fixtures.payment(valid);
+		element = Fixtures.element(valid);
+		transactionGet = Fixtures.transactionGet(valid);
+	}
+
+	@Benchmark
+	public Object transactionCreate() {
+		// A new nonce clears the memoized digest, so every call hashes the transaction instead of reusing the memo
+		transaction.setNonce(transaction.getNonce() + 1);
+		return validate(transaction);
+	}
+
+	@Benchmark
+	public Object paymentCreate() {
+		return validate(payment);
+	}
+
+	@Benchmark
+	public Object elementCreate() {
+		return validate(element);
+	}
+
+	@Benchmark
+	public Object transactionGet() {
+		return validate(transactionGet);
+	}
+
+	private static Object validate(DistributedDto dto) {
+		try {
+			dto.validate();
+			return dto;
+		} catch (OperationException ex) {
+			return ex;
+		}
+	}
+}
@@ -0,0 +1,541 @@
+package org.norsh.model.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating streaming JSON codecs for the model DTOs.
+ * <p>
+ * For every public, concrete class of {@code org.norsh.model.dtos} with a no-argument constructor, a final class
+ * named {@code <Dto>JsonCodec} is generated in the same package, implementing
+ * {@code org.norsh.model.transport.json.JsonCodec}. The generated codecs produce the same JSON as a default Jackson
+ * {@code ObjectMapper}:
+ * </p>
+ * <ul>
+ *   <li>Properties are the instance fields, from the topmost superclass down, in declaration order; transient fields
+ *   and properties marked {@code @JsonIgnore} on the field, getter or setter are left out.</li>
+ *   <li>{@code @JsonInclude} is honored on fields and classes; {@code NON_NULL}, {@code NON_ABSENT} and
+ *   {@code NON_EMPTY} omit {@code null} values, and {@code NON_EMPTY} also empty strings.</li>
+ *   <li>Values are read and written through their Lombok accessors.</li>
+ * </ul>
+ * <p>
+ * Supported property types are {@code String}, {@code Long}, {@code Integer}, {@code Double}, {@code Boolean} and
+ * their primitives, {@code BigDecimal}, enums (by name), other model DTOs and {@code Object}. Any other type, or a
+ * public getter without a backing field, fails the build, since the generated codec would not match Jackson.
+ * </p>
+ * <p>
+ * The class {@code org.norsh.model.dtos.DtoJsonCodecs} indexes the generated codecs by DTO class.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@SupportedAnnotationTypes("*")
+public class JsonCodecProcessor extends AbstractProcessor {
+	static final String PACKAGE = "org.norsh.model.dtos";
+	static final String INDEX = "DtoJsonCodecs";
+	static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+	static final String JSON_INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
+	static final String NO_ARGS_CONSTRUCTOR = "lombok.NoArgsConstructor";
+	static final String LOMBOK_GETTER = "lombok.Getter";
+	static final String LOMBOK_SETTER = "lombok.Setter";
+
+	private final List<TypeElement> generated = new ArrayList<>();
+	private boolean indexed;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+		if (round.processingOver()) {
+			return false;
+		}
+
+		for (Element element : round.getRootElements()) {
+			if (element instanceof TypeElement type && isDto(type) && !generated.contains(type)) {
+				try {
+					generate(type);
+					generated.add(type);
+				} catch (IOException ex) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to generate JSON codec: " + ex.getMessage(), type);
+				}
+			}
+		}
+
+		if (!indexed && !generated.isEmpty()) {
+			try {
+				generateIndex();
+				indexed = true;
+			} catch (IOException ex) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to generate " + INDEX + ": " + ex.getMessage());
+			}
+		}
+		// Other processors still see every annotation
+		return false;
+	}
+
+	private boolean isDto(TypeElement type) {
+		if (type.getKind() != ElementKind.CLASS || !type.getModifiers().contains(Modifier.PUBLIC) || type.getModifiers().contains(Modifier.ABSTRACT)
+				|| type.getNestingKind().isNested()) {
+			return false;
+		}
+
+		String packageName = packageOf(type);
+		if (!packageName.equals(PACKAGE) && !packageName.startsWith(PACKAGE + ".")) {
+			return false;
+		} else if (annotation(type, NO_ARGS_CONSTRUCTOR) != null) {
+			return true;
+		}
+
+		for (Element member : type.getEnclosedElements()) {
+			if (member.getKind() == ElementKind.CONSTRUCTOR && ((ExecutableElement) member).getParameters().isEmpty()) {
+				return !member.getModifiers().contains(Modifier.PRIVATE);
+			}
+		}
+		return false;
+	}
+
+	private void generate(TypeElement type) throws IOException {
+		String packageName = packageOf(type);
+		String dtoName = type.getSimpleName().toString();
+		String codecName = dtoName + "JsonCodec";
+		List<Property> properties = properties(type);
+
+		try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(packageName + "." + codecName, type).openWriter())) {
+			out.println("package " + packageName + ";");
+			out.println();
+			out.println("import java.io.IOException;");
+			out.println();
+			out.println("import javax.annotation.processing.Generated;");
+			out.println();
+			out.println("import org.norsh.model.transport.json.JsonCodec;");
+			out.println("import org.norsh.model.transport.json.JsonValues;");
+			out.println();
+			out.println("import com.fasterxml.jackson.core.JsonGenerator;");
+			out.println("import com.fasterxml.jackson.core.JsonParser;");
+			out.println("import com.fasterxml.jackson.core.JsonToken;");
+			out.println("import com.fasterxml.jackson.core.io.SerializedString;");
+			out.println();
+			out.println("/**");
+			out.println(" * Streaming JSON codec generated from the properties of {@link " + dtoName + "}.");
+			out.println(" */");
+			out.println("@Generated(\"" + getClass().getName() + "\")");
+			out.println("public final class " + codecName + " implements JsonCodec<" + dtoName + "> {");
+			out.println("\tpublic static final " + codecName + " INSTANCE = new " + codecName + "();");
+			out.println();
+			for (Property property : properties) {
+				if (property.getter != null) {
+					out.println("\tprivate static final SerializedString " + property.constant + " = new SerializedString(\"" + property.name + "\");");
+				}
+			}
+			out.println();
+			out.println("\tprivate " + codecName + "() {");
+			out.println("\t}");
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic void write(JsonGenerator generator, " + dtoName + " dto) throws IOException {");
+			out.println("\t\tif (dto == null) {");
+			out.println("\t\t\tgenerator.writeNull();");
+			out.println("\t\t\treturn;");
+			out.println("\t\t}");
+			out.println();
+			out.println("\t\tgenerator.writeStartObject();");
+			for (Property property : properties) {
+				if (property.getter != null) {
+					writeProperty(out, property);
+				}
+			}
+			out.println("\t\tgenerator.writeEndObject();");
+			out.println("\t}");
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic " + dtoName + " read(JsonParser parser) throws IOException {");
+			out.println("\t\tif (parser.currentToken() == JsonToken.VALUE_NULL) {");
+			out.println("\t\t\treturn null;");
+			out.println("\t\t}");
+			out.println("\t\tJsonValues.expectObject(parser, \"" + dtoName + "\");");
+			out.println();
+			out.println("\t\t" + dtoName + " dto = new " + dtoName + "();");
+			out.println("\t\tString name;");
+			out.println("\t\twhile ((name = parser.nextFieldName()) != null) {");
+			out.println("\t\t\tparser.nextToken();");
+			out.println("\t\t\tswitch (name) {");
+			for (Property property : properties) {
+				if (property.setter != null) {
+					out.println("\t\t\tcase \"" + property.name + "\" -> " + readStatement(property));
+				}
+			}
+			out.println("\t\t\tdefault -> parser.skipChildren();");
+			out.println("\t\t\t}");
+			out.println("\t\t}");
+			out.println("\t\treturn dto;");
+			out.println("\t}");
+			out.println("}");
+		}
+	}
+
+	private void generateIndex() throws IOException {
+		try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(PACKAGE + "." + INDEX, generated.toArray(new Element[0])).openWriter())) {
+			out.println("package " + PACKAGE + ";");
+			out.println();
+			out.println("import javax.annotation.processing.Generated;");
+			out.println();
+			out.println("import org.norsh.model.transport.json.JsonCodec;");
+			out.println();
+			out.println("/**");
+			out.println(" * Index of the JSON codecs generated for the DTOs of {@code " + PACKAGE + "}.");
+			out.println(" */");
+			out.println("@Generated(\"" + getClass().getName() + "\")");
+			out.println("public final class " + INDEX + " {");
+			out.println("\tprivate " + INDEX + "() {");
+			out.println("\t}");
+			out.println();
+			out.println("\t/**");
+			out.println("\t * Returns the codec generated for a DTO class.");
+			out.println("\t *");
+			out.println("\t * @param type the exact DTO class; subclasses have no codec unless generated for them.");
+			out.println("\t * @return the codec, or {@code null} if none was generated.");
+			out.println("\t */");
+			out.println("\t@SuppressWarnings(\"unchecked\")");
+			out.println("\tpublic static <T> JsonCodec<T> of(Class<T> type) {");
+			for (TypeElement type : generated) {
+				String name = type.getQualifiedName().toString();
+				out.println("\t\tif (type == " + name + ".class) {");
+				out.println("\t\t\treturn (JsonCodec<T>) " + name + "JsonCodec.INSTANCE;");
+				out.println("\t\t}");
+			}
+			out.println("\t\treturn null;");
+			out.println("\t}");
+			out.println("}");
+		}
+	}
+
+	/**
+	 * Collects the properties in the order Jackson serializes them.
+	 */
+	private List<Property> properties(TypeElement type) {
+		List<TypeElement> hierarchy = new ArrayList<>();
+		for (TypeElement current = type; current != null; current = superclassOf(current)) {
+			hierarchy.add(0, current);
+		}
+
+		Map<String, VariableElement> fields = new LinkedHashMap<>();
+		Set<String> ignored = new HashSet<>();
+		Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+		Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+		for (TypeElement current : hierarchy) {
+			for (Element member : current.getEnclosedElements()) {
+				Set<Modifier> modifiers = member.getModifiers();
+				if (modifiers.contains(Modifier.STATIC)) {
+					continue;
+				}
+
+				if (member.getKind() == ElementKind.FIELD) {
+					String name = member.getSimpleName().toString();
+					if (annotation(member, JSON_IGNORE) != null) {
+						ignored.add(name);
+					} else if (!modifiers.contains(Modifier.TRANSIENT)) {
+						fields.put(name, (VariableElement) member);
+					}
+				} else if (member.getKind() == ElementKind.METHOD && modifiers.contains(Modifier.PUBLIC)) {
+					ExecutableElement method = (ExecutableElement) member;
+					String name = accessorProperty(method);
+					if (name == null) {
+						continue;
+					} else if (annotation(method, JSON_IGNORE) != null) {
+						ignored.add(name);
+					} else if (method.getParameters().isEmpty()) {
+						getters.put(name, method);
+					} else {
+						setters.put(name, method);
+					}
+				}
+			}
+		}
+
+		String classInclude = classInclude(hierarchy);
+		List<Property> properties = new ArrayList<>();
+		for (VariableElement field : fields.values()) {
+			String name = field.getSimpleName().toString();
+			if (ignored.contains(name)) {
+				continue;
+			}
+
+			Kind kind = kindOf(field.asType());
+			if (kind == null) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unsupported JSON property type " + field.asType(), field);
+				continue;
+			}
+
+			String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+			String getter = (field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalized;
+			String setter = "set" + capitalized;
+			if (!getters.containsKey(name) && isNone(field, LOMBOK_GETTER)) {
+				getter = null;
+			}
+			if (!setters.containsKey(name) && isNone(field, LOMBOK_SETTER)) {
+				setter = null;
+			}
+
+			String include = include(field, classInclude);
+			if (include.equals("NON_DEFAULT") || include.equals("CUSTOM")) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unsupported @JsonInclude(" + include + ") for JSON codec", field);
+			}
+			properties.add(new Property(name, constant(name), field.asType(), kind, getter, setter, include));
+		}
+
+		for (Map.Entry<String, ExecutableElement> getter : getters.entrySet()) {
+			if (!fields.containsKey(getter.getKey()) && !ignored.contains(getter.getKey())) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"Getter without a backing field is serialized by Jackson; annotate it with @JsonIgnore or add the field", getter.getValue());
+			}
+		}
+		return properties;
+	}
+
+	private void writeProperty(PrintWriter out, Property property) {
+		String local = property.name + "Value";
+		String type = property.kind.primitive ? property.type.toString() : typeName(property.type);
+		out.println("\t\t" + type + " " + local + " = dto." + property.getter + "();");
+
+		String write = writeStatement(property, local);
+		if (property.kind.primitive) {
+			out.println("\t\tgenerator.writeFieldName(" + property.constant + ");");
+			out.println("\t\t" + write);
+		} else if (property.include.equals("ALWAYS")) {
+			out.println("\t\tgenerator.writeFieldName(" + property.constant + ");");
+			out.println("\t\tif (" + local + " == null) {");
+			out.println("\t\t\tgenerator.writeNull();");
+			out.println("\t\t} else {");
+			out.println("\t\t\t" + write);
+			out.println("\t\t}");
+		} else {
+			String empty = property.include.equals("NON_EMPTY") && property.kind == Kind.STRING ? " && !" + local + ".isEmpty()" : "";
+			out.println("\t\tif (" + local + " != null" + empty + ") {");
+			out.println("\t\t\tgenerator.writeFieldName(" + property.constant + ");");
+			out.println("\t\t\t" + write);
+			out.println("\t\t}");
+		}
+	}
+
+	private String writeStatement(Property property, String local) {
+		return switch (property.kind) {
+		case STRING -> "generator.writeString(" + local + ");";
+		case LONG, INTEGER, DOUBLE, DECIMAL, LONG_PRIMITIVE, INTEGER_PRIMITIVE, DOUBLE_PRIMITIVE -> "generator.writeNumber(" + local + ");";
+		case BOOLEAN, BOOLEAN_PRIMITIVE -> "generator.writeBoolean(" + local + ");";
+		case ENUM -> "generator.writeString(" + local + ".name());";
+		case DTO -> typeName(property.type) + "JsonCodec.INSTANCE.write(generator, " + local + ");";
+		case OBJECT -> "JsonValues.writeValue(generator, " + local + ", null);";
+		};
+	}
+
+	private String readStatement(Property property) {
+		String set = "dto." + property.setter + "(";
+		return switch (property.kind) {
+		case STRING -> set + "JsonValues.readString(parser));";
+		case LONG -> set + "JsonValues.readLong(parser));";
+		case INTEGER -> set + "JsonValues.readInteger(parser));";
+		case DOUBLE -> set + "JsonValues.readDouble(parser));";
+		case DECIMAL -> set + "JsonValues.readBigDecimal(parser));";
+		case BOOLEAN -> set + "JsonValues.readBoolean(parser));";
+		case ENUM -> set + "JsonValues.readEnum(parser, " + typeName(property.type) + ".class));";
+		case DTO -> set + typeName(property.type) + "JsonCodec.INSTANCE.read(parser));";
+		case OBJECT -> set + "JsonValues.readValue(parser));";
+		// Jackson sets primitives to their default on null
+		case LONG_PRIMITIVE -> "{ Long value = JsonValues.readLong(parser); " + set + "value == null ? 0L : value); }";
+		case INTEGER_PRIMITIVE -> "{ Integer value = JsonValues.readInteger(parser); " + set + "value == null ? 0 : value); }";
+		case DOUBLE_PRIMITIVE -> "{ Double value = JsonValues.readDouble(parser); " + set + "value == null ? 0.0 : value); }";
+		case BOOLEAN_PRIMITIVE -> "{ Boolean value = JsonValues.readBoolean(parser); " + set + "value != null && value); }";
+		};
+	}
+
+	private Kind kindOf(TypeMirror type) {
+		switch (type.getKind()) {
+		case LONG:
+			return Kind.LONG_PRIMITIVE;
+		case INT:
+			return Kind.INTEGER_PRIMITIVE;
+		case DOUBLE:
+			return Kind.DOUBLE_PRIMITIVE;
+		case BOOLEAN:
+			return Kind.BOOLEAN_PRIMITIVE;
+		case DECLARED:
+			break;
+		default:
+			return null;
+		}
+
+		TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+		if (element.getKind() == ElementKind.ENUM) {
+			return Kind.ENUM;
+		} else if (isDto(element)) {
+			return Kind.DTO;
+		}
+		return switch (element.getQualifiedName().toString()) {
+		case "java.lang.String" -> Kind.STRING;
+		case "java.lang.Long" -> Kind.LONG;
+		case "java.lang.Integer" -> Kind.INTEGER;
+		case "java.lang.Double" -> Kind.DOUBLE;
+		case "java.lang.Boolean" -> Kind.BOOLEAN;
+		case "java.math.BigDecimal" -> Kind.DECIMAL;
+		case "java.lang.Object" -> Kind.OBJECT;
+		default -> null;
+		};
+	}
+
+	/**
+	 * Returns the property name of a getter or setter, as derived by Jackson, or {@code null} for other methods.
+	 */
+	private static String accessorProperty(ExecutableElement method) {
+		String name = method.getSimpleName().toString();
+		int parameters = method.getParameters().size();
+		String suffix;
+		if (parameters == 0 && name.startsWith("get") && method.getReturnType().getKind() != TypeKind.VOID && !name.equals("getClass")) {
+			suffix = name.substring(3);
+		} else if (parameters == 0 && name.startsWith("is") && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+			suffix = name.substring(2);
+		} else if (parameters == 1 && name.startsWith("set")) {
+			suffix = name.substring(3);
+		} else {
+			return null;
+		}
+
+		if (suffix.isEmpty() || !Character.isUpperCase(suffix.charAt(0))) {
+			return null;
+		}
+		// All leading upper case characters are lowered, as in getURL -> url
+		int upper = 0;
+		while (upper < suffix.length() && Character.isUpperCase(suffix.charAt(upper))) {
+			upper++;
+		}
+		return suffix.substring(0, upper).toLowerCase() + suffix.substring(upper);
+	}
+
+	/**
+	 * Returns the {@code @JsonInclude} value of the nearest class in the hierarchy declaring it.
+	 */
+	private String classInclude(List<TypeElement> hierarchy) {
+		for (int i = hierarchy.size() - 1; i >= 0; i--) {
+			AnnotationMirror include = annotation(hierarchy.get(i), JSON_INCLUDE);
+			if (include != null) {
+				return value(include, "value");
+			}
+		}
+		return "ALWAYS";
+	}
+
+	private String include(VariableElement field, String classInclude) {
+		AnnotationMirror include = annotation(field, JSON_INCLUDE);
+		if (include == null) {
+			return classInclude;
+		}
+		String value = value(include, "value");
+		// USE_DEFAULTS defers to the class
+		return value.equals("USE_DEFAULTS") ? classInclude : value;
+	}
+
+	/**
+	 * Indicates whether a Lombok accessor annotation disables the accessor of the field.
+	 */
+	private boolean isNone(VariableElement field, String annotationName) {
+		AnnotationMirror annotation = annotation(field, annotationName);
+		return annotation != null && value(annotation, "value").equals("NONE");
+	}
+
+	private String value(AnnotationMirror annotation, String name) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name)) {
+				Object value = entry.getValue().getValue();
+				return value instanceof VariableElement constant ? constant.getSimpleName().toString() : String.valueOf(value);
+			}
+		}
+		return null;
+	}
+
+	private static AnnotationMirror annotation(Element element, String name) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(name)) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	private static TypeElement superclassOf(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+		return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+	}
+
+	private String packageOf(TypeElement type) {
+		return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+	}
+
+	private static String typeName(TypeMirror type) {
+		String name = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+		return name.startsWith("java.lang.") ? name.substring("java.lang.".length()) : name;
+	}
+
+	/**
+	 * Converts a property name to a constant name, as in requestId -> REQUEST_ID.
+	 */
+	private static String constant(String name) {
+		StringBuilder constant = new StringBuilder(name.length() + 4);
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (Character.isUpperCase(c) && i > 0) {
+				constant.append('_');
+			}
+			constant.append(Character.toUpperCase(c));
+		}
+		return constant.toString();
+	}
+
+	private enum Kind {
+		STRING, LONG, INTEGER, DOUBLE, BOOLEAN, DECIMAL, ENUM, DTO, OBJECT,
+		LONG_PRIMITIVE(true), INTEGER_PRIMITIVE(true), DOUBLE_PRIMITIVE(true), BOOLEAN_PRIMITIVE(true);
+
+		private final boolean primitive;
+
+		Kind() {
+			this(false);
+		}
+
+		Kind(boolean primitive) {
+			this.primitive = primitive;
+		}
+	}
+
+	private record Property(String name, String constant, TypeMirror type, Kind kind, String getter, String setter, String include) {
+	}
+}
@@ -0,0 +1,265 @@
+package org.norsh.model.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating allocation-free validators for the model DTOs.
+ * <p>
+ * For every class declaring fields annotated with the constraints of {@code org.norsh.model.validation}, a final
+ * class named {@code <Dto>Validator} is generated in the same package. It exposes:
+ * </p>
+ * <ul>
+ *   <li>{@code firstViolation(dto)} - the message of the first violated constraint, or {@code null}.</li>
+ *   <li>{@code collect(dto, details)} - appends one message per invalid field to {@code details}.</li>
+ * </ul>
+ * <p>
+ * Fields are checked in declaration order through their Lombok getters. Constraints on a single field are checked in
+ * annotation order and only the first violation of each field is reported. Fields inherited from superclasses are not
+ * part of the generated validator.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@SupportedAnnotationTypes({
+	ValidatorProcessor.HEX,
+	ValidatorProcessor.NOT_BLANK,
+	ValidatorProcessor.RANGE,
+	ValidatorProcessor.NOT_NEGATIVE,
+	ValidatorProcessor.DECIMAL
+})
+public class ValidatorProcessor extends AbstractProcessor {
+	static final String PACKAGE = "org.norsh.model.validation";
+	static final String HEX = PACKAGE + ".Hex";
+	static final String NOT_BLANK = PACKAGE + ".NotBlank";
+	static final String RANGE = PACKAGE + ".Range";
+	static final String NOT_NEGATIVE = PACKAGE + ".NotNegative";
+	static final String DECIMAL = PACKAGE + ".Decimal";
+
+	private static final Set<String> CONSTRAINTS = Set.of(HEX, NOT_BLANK, RANGE, NOT_NEGATIVE, DECIMAL);
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+		Set<TypeElement> types = new LinkedHashSet<>();
+		for (TypeElement annotation : annotations) {
+			for (Element element : round.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() == ElementKind.FIELD) {
+					types.add((TypeElement) element.getEnclosingElement());
+				}
+			}
+		}
+
+		for (TypeElement type : types) {
+			try {
+				generate(type);
+			} catch (IOException ex) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to generate validator: " + ex.getMessage(), type);
+			}
+		}
+		return true;
+	}
+
+	private void generate(TypeElement type) throws IOException {
+		String packageName = ((PackageElement) processingEnv.getElementUtils().getPackageOf(type)).getQualifiedName().toString();
+		String dtoName = type.getSimpleName().toString();
+		String validatorName = dtoName + "Validator";
+
+		List<FieldCheck> checks = new ArrayList<>();
+		for (Element member : type.getEnclosedElements()) {
+			if (member.getKind() == ElementKind.FIELD && !member.getModifiers().contains(Modifier.STATIC)) {
+				FieldCheck check = fieldCheck((VariableElement) member);
+				if (check != null) {
+					checks.add(check);
+				}
+			}
+		}
+
+		try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(packageName + "." + validatorName, type).openWriter())) {
+			out.println("package " + packageName + ";");
+			out.println();
+			out.println("import java.util.List;");
+			out.println();
+			out.println("import javax.annotation.processing.Generated;");
+			out.println();
+			out.println("import org.norsh.model.validation.Checks;");
+			out.println();
+			out.println("/**");
+			out.println(" * Validator generated from the constraint annotations of {@link " + dtoName + "}.");
+			out.println(" */");
+			out.println("@Generated(\"" + getClass().getName() + "\")");
+			out.println("public final class " + validatorName + " {");
+			out.println("\tprivate " + validatorName + "() {");
+			out.println("\t}");
+			out.println();
+			out.println("\t/**");
+			out.println("\t * Returns the message of the first violated constraint.");
+			out.println("\t *");
+			out.println("\t * @param dto the DTO to check.");
+			out.println("\t * @return the violation message, or {@code null} if all constraints are met.");
+			out.println("\t */");
+			out.println("\tpublic static String firstViolation(" + dtoName + " dto) {");
+			out.println("\t\tString violation;");
+			for (FieldCheck check : checks) {
+				out.println("\t\tif ((violation = " + check.method + "(dto." + check.getter + "())) != null) {");
+				out.println("\t\t\treturn violation;");
+				out.println("\t\t}");
+			}
+			out.println("\t\treturn null;");
+			out.println("\t}");
+			out.println();
+			out.println("\t/**");
+			out.println("\t * Appends the first violation message of each invalid field.");
+			out.println("\t *");
+			out.println("\t * @param dto     the DTO to check.");
+			out.println("\t * @param details the list receiving the violation messages.");
+			out.println("\t */");
+			out.println("\tpublic static void collect(" + dtoName + " dto, List<String> details) {");
+			out.println("\t\tString violation;");
+			for (FieldCheck check : checks) {
+				out.println("\t\tif ((violation = " + check.method + "(dto." + check.getter + "())) != null) {");
+				out.println("\t\t\tdetails.add(violation);");
+				out.println("\t\t}");
+			}
+			out.println("\t}");
+
+			for (FieldCheck check : checks) {
+				out.println();
+				out.println("\tprivate static String " + check.method + "(" + check.type + " value) {");
+				for (String statement : check.statements) {
+					out.println("\t\t" + statement);
+				}
+				out.println("\t\treturn null;");
+				out.println("\t}");
+			}
+			out.println("}");
+		}
+	}
+
+	private FieldCheck fieldCheck(VariableElement field) {
+		List<String> statements = new ArrayList<>();
+		TypeMirror type = field.asType();
+
+		for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+			String name = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+			if (!CONSTRAINTS.contains(name)) {
+				continue;
+			}
+
+			Map<String, Object> values = values(annotation);
+			String message = literal(values.get("message"));
+
+			switch (name) {
+			case HEX -> {
+				requireType(field, annotation, isString(type));
+				statements.add(fail("!Checks.isHex(value, " + values.get("length") + ", " + values.get("ignoreCase") + ")", message));
+			}
+			case NOT_BLANK -> {
+				requireType(field, annotation, isString(type));
+				statements.add(fail("value == null || value.isBlank()", message));
+			}
+			case RANGE -> {
+				requireType(field, annotation, isIntegral(type));
+				statements.add(fail(nullCheck(type) + "value < " + values.get("min") + "L || value > " + values.get("max") + "L", message));
+			}
+			case NOT_NEGATIVE -> {
+				boolean bigDecimal = type.toString().equals("java.math.BigDecimal");
+				requireType(field, annotation, bigDecimal || isIntegral(type));
+				statements.add(fail(nullCheck(type) + (bigDecimal ? "value.signum() < 0" : "value < 0"), message));
+			}
+			case DECIMAL -> {
+				requireType(field, annotation, isString(type));
+				String negativeMessage = (String) values.get("negativeMessage");
+				statements.add("int signum = Checks.decimalSignum(value);");
+				statements.add(fail("signum == Checks.NOT_A_NUMBER", message));
+				if (!negativeMessage.isEmpty()) {
+					statements.add(fail("signum < 0", literal(negativeMessage)));
+				}
+			}
+			default -> throw new IllegalStateException(name);
+			}
+		}
+
+		if (statements.isEmpty()) {
+			return null;
+		}
+
+		String fieldName = field.getSimpleName().toString();
+		String capitalized = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+		String getter = (type.getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalized;
+		return new FieldCheck("check" + capitalized, getter, type.toString(), statements);
+	}
+
+	private Map<String, Object> values(AnnotationMirror annotation) {
+		Map<String, Object> values = new LinkedHashMap<>();
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+			values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+		}
+		return values;
+	}
+
+	private void requireType(VariableElement field, AnnotationMirror annotation, boolean supported) {
+		if (!supported) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Constraint is not applicable to type " + field.asType(), field, annotation);
+		}
+	}
+
+	private String literal(Object value) {
+		return processingEnv.getElementUtils().getConstantExpression(value);
+	}
+
+	private static String fail(String condition, String message) {
+		return "if (" + condition + ") return " + message + ";";
+	}
+
+	private static String nullCheck(TypeMirror type) {
+		return type.getKind().isPrimitive() ? "" : "value == null || ";
+	}
+
+	private static boolean isString(TypeMirror type) {
+		return type.toString().equals("java.lang.String");
+	}
+
+	private static boolean isIntegral(TypeMirror type) {
+		return switch (type.getKind()) {
+		case BYTE, SHORT, INT, LONG -> true;
+		case DECLARED -> switch (type.toString()) {
+			case "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long" -> true;
+			default -> false;
+			};
+		default -> false;
+		};
+	}
+
+	private record FieldCheck(String method, String getter, String type, List<String> statements) {
+	}
+}
@@ -2,8 +2,16 @@ package org.norsh.model.dtos.crypto;
 
 import org.norsh.exceptions.OperationException;
 import org.norsh.model.dtos.DistributedDto;
+import org.norsh.model.events.SignatureCheckEvent;
+import org.norsh.model.hashing.CanonicalHasher;
+import org.norsh.model.security.PublicKeyCache;
+import org.norsh.model.security.SignatureResult;
+import org.norsh.model.security.SignatureVerifier;
+import org.norsh.model.types.Hash256;
 import org.norsh.util.Converter;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -37,31 +45,97 @@ public class CryptoSignedAbstractDto extends DistributedDto {
 
     /** Public key in PEM, Base64, or Hexadecimal format. */
     private String publicKey;
+
+    /** Raw SHA-256 digest backing {@link #hash}, hex encoded only when the hash is read. */
+    @JsonIgnore
+    private byte[] digest;
+
+    /**
+     * Returns the computed hash in hexadecimal format.
+     * <p>
+     * When the hash was computed with {@link #setDigest(byte[])}, it is hex encoded on first access.
+     * </p>
+     *
+     * @return the hexadecimal hash, or {@code null} if not computed nor provided.
+     */
+    public String getHash() {
+        if (hash == null && digest != null) {
+            hash = CanonicalHasher.toHex(digest);
+        }
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+        this.digest = null;
+    }
+
+    /**
+     * Sets the computed hash from its raw digest, deferring hex encoding to {@link #getHash()}.
+     *
+     * @param digest the 32-byte SHA-256 digest.
+     */
+    public void setDigest(byte[] digest) {
+        this.digest = digest;
+        this.hash = null;
+    }
+
+    /**
+     * Returns the computed hash as a binary {@link Hash256}, without hex encoding when the raw digest is available.
+     *
+     * @return the hash, or {@code null} if not computed nor provided.
+     */
+    @JsonIgnore
+    public Hash256 getHash256() {
+        return digest != null ? Hash256.fromBytes(digest) : Hash256.fromHex(hash);
+    }
+
+    @JsonIgnore
+    public void setHash256(Hash256 hash) {
+        setDigest(hash == null ? null : hash.toBytes());
+    }
     
     /**
      * Validates the cryptographic fields of the DTO.
      * <p>
      * This method ensures that the {@code publicKey} is correctly formatted, the {@code signature} is valid, and that
-     * the {@code hash} matches the computed signature validation.
+     * the {@code hash} matches the computed signature validation. Keys already decoded by
+     * {@link PublicKeyCache#shared()} skip the format check. Each call is reported as a {@link SignatureCheckEvent}
+     * when that Flight Recorder event is enabled.
      * </p>
      *
      * @throws ValidationException if any validation rule is violated.
      */
     public void validatePublicKey() throws OperationException {
-        if (getPublicKey() == null || getPublicKey().isBlank()) {
-        	throw new OperationException("Invalid public key: The 'publicKey' field is required and cannot be null or empty.");
-        } else if (!Converter.isBase64OrHex(getPublicKey())) {
-        	throw new OperationException("Invalid public key: The 'publicKey' field must be in PEM, Base64, or Hexadecimal format.");
+        SignatureCheckEvent event = new SignatureCheckEvent();
+        event.begin();
+        boolean passed = false;
+        try {
+            if (getPublicKey() == null || getPublicKey().isBlank()) {
+            	throw new OperationException("Invalid public key: The 'publicKey' field is required and cannot be null or empty.");
+            } else if (!PublicKeyCache.shared().contains(getPublicKey()) && !Converter.isBase64OrHex(getPublicKey())) {
+            	throw new OperationException("Invalid public key: The 'publicKey' field must be in PEM, Base64, or Hexadecimal format.");
+            }
+            passed = true;
+        } finally {
+            event.end(SignatureCheckEvent.PUBLIC_KEY, this, passed);
         }
     }
     
+    /**
+     * Verifies the {@code signature} against the computed {@code hash} and the {@code publicKey}, through
+     * {@link SignatureVerifier#verify(CryptoSignedAbstractDto)}.
+     * <p>
+     * {@code validate()} does not call this method: it only checks the syntax and computes the hash, so that
+     * verification can be batched or skipped through {@link org.norsh.model.security.VerifiedRequestCache}.
+     * </p>
+     *
+     * @throws OperationException if the signature is missing, malformed or does not match.
+     */
     public void validateSignature() throws OperationException {
-//        if (signature == null || signature.isBlank()) {
-//            throw new OperationException("Invalid signature: The 'signature' field is required and cannot be null or empty.");
-//        } else if (!Pattern.matches("^[a-fA-F0-9]+$", signature)) {
-//            throw new OperationException("Invalid signature: The 'signature' field must be a valid SHA256withECDSA signature in hexadecimal format.");
-//        } else if (!Signature.verifyHash(publicKey, signature, hash)) {
-//            throw new OperationException("Invalid signature: The provided signature does not match the computed hash from the given public key.");
-//        }
+        SignatureResult result = SignatureVerifier.verify(this);
+        if (!result.isValid()) {
+            throw new OperationException(result.getMessage());
+        }
     }
 }
@@ -1,15 +1,16 @@
 package org.norsh.model.dtos.elements;
 
-import java.util.regex.Pattern;
-
 import org.norsh.constants.Constants;
 import org.norsh.constants.FeePolicy;
 import org.norsh.exceptions.OperationException;
 import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
+import org.norsh.model.hashing.CanonicalHashable;
+import org.norsh.model.hashing.CanonicalHasher;
+import org.norsh.model.hashing.FieldSink;
 import org.norsh.model.types.ElementType;
-import org.norsh.security.Hasher;
+import org.norsh.model.validation.Checks;
+import org.norsh.model.validation.Range;
 import org.norsh.util.Converter;
-import org.norsh.util.Strings;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -39,7 +40,7 @@ import lombok.Setter;
  */
 @Getter
 @Setter
-public class ElementCreateDto extends CryptoSignedAbstractDto {
+public class ElementCreateDto extends CryptoSignedAbstractDto implements CanonicalHashable {
     /** Type of the Element. Cannot be null and must correspond to a valid {@link ElementType}. */
     private ElementType type;
 
@@ -47,6 +48,7 @@ public class ElementCreateDto extends CryptoSignedAbstractDto {
     private String symbol;
 
     /** Number of decimals. Cannot be null and must be between 0 and 18. */
+    @Range(min = 0, max = 18, message = "Invalid decimals: The 'decimals' field is required, cannot be null, and must be between 0 and 18.")
     private Integer decimals;
 
     /** Number of tokens. Cannot be null and must be between 1 and 1,000,000,000 (1 billion). */
@@ -70,25 +72,33 @@ public class ElementCreateDto extends CryptoSignedAbstractDto {
      *   <li>Confirms that a valid transaction is provided, with a fee at least equal to {@link FeePolicy#getElementCreateAmountWithTax()}.</li>
      *   <li>Validates that the transaction destination is the official Norsh wallet and that the token used is the Norsh native token.</li>
      *   <li>Generates a cryptographic hash using the symbol, decimals, supply, TFO data, and public key for integrity verification.</li>
-     *   <li>Performs cryptographic signature validation.</li>
      * </ul>
+     * Only {@link ElementType#TOKEN} and {@link ElementType#PROXY} elements have a canonical hash, so any other type is
+     * rejected. The signature is not checked here; it is verified against the computed hash by
+     * {@link org.norsh.model.security.SignatureVerifier} or the validation pipeline.
      * </p>
      *
      * @throws OperationException if any validation rule is violated.
      */
     public void validate() throws OperationException {
+        // Only these types can be hashed, and a hash that was not computed here must never be verified
+        if (type != ElementType.TOKEN && type != ElementType.PROXY) {
+            throw new OperationException("Invalid type: The 'type' field is required and must be TOKEN or PROXY.");
+        }
+
         // Validate Token Symbol
         if (type == ElementType.PROXY) {
-            if (symbol == null || symbol.isBlank() || !Pattern.matches("^[A-Z]{2,8}(" + Constants.getProxySuffix() + ")$", symbol)) {
+            if (!Checks.isUpperAlpha(symbol, 2, 8, Constants.getProxySuffix())) {
                 throw new OperationException(String.format("Invalid 'symbol' for Proxy Element: The symbol is required, must contain 2 to 8 uppercase letters (A-Z), and must end with '%s'.", Constants.getProxySuffix()));
             }
-        } else if (symbol == null || symbol.isBlank() || !Pattern.matches("^[A-Z]{2,8}$", symbol)) {
+        } else if (!Checks.isUpperAlpha(symbol, 2, 8)) {
             throw new OperationException("Invalid symbol: The 'symbol' field is required, cannot be null, and must contain 2 to 8 uppercase letters (A-Z).");
         }
 
         // Validate Decimals
-        if (decimals == null || decimals < 0 || decimals > 18) {
-            throw new OperationException("Invalid decimals: The 'decimals' field is required, cannot be null, and must be between 0 and 18.");
+        String violation = ElementCreateDtoValidator.firstViolation(this);
+        if (violation != null) {
+            throw new OperationException(violation);
         }
 
         // Validate Supply
@@ -109,18 +119,20 @@ public class ElementCreateDto extends CryptoSignedAbstractDto {
         super.validatePublicKey();
 
         // Generate hash for integrity verification using symbol, decimals, initialSupply if token, TFO data, and public key
-
-        if (type == ElementType.TOKEN)
-        	this.setHash(Hasher.sha256Hex(Strings.concatenate(symbol, decimals, initialSupply, tfo, getPublicKey())));
-        else if (type == ElementType.PROXY) 
-            this.setHash(Hasher.sha256Hex(Strings.concatenate(symbol, decimals, tfo, getPublicKey())));
-        
-        // Validate signature using parent method
-        super.validateSignature();
+        this.setDigest(CanonicalHasher.digest(this));
         
         // If no requestId is set, use the generated hash as the requestId
         if (this.getRequestId() == null) {
             super.setRequestId(this.getHash());
         }
     }
+
+    @Override
+    public void writeCanonical(FieldSink sink) {
+        sink.put(symbol).put(decimals);
+        if (type == ElementType.TOKEN) {
+            sink.put(initialSupply);
+        }
+        sink.put(tfo).put(getPublicKey());
+    }
 }
@@ -3,6 +3,9 @@ package org.norsh.model.dtos.elements;
 import org.norsh.constants.Constants;
 import org.norsh.model.dtos.DistributedDto;
 import org.norsh.model.types.ElementType;
+import org.norsh.model.types.Hash256;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -61,4 +64,14 @@ public class ElementGetDto extends DistributedDto {
 //		super.validate(details);
 //	}
 
+	/** {@code id} as a binary {@link Hash256}; {@code null} if not set. */
+	@JsonIgnore
+	public Hash256 getIdHash256() {
+		return Hash256.fromHex(id);
+	}
+
+	@JsonIgnore
+	public void setIdHash256(Hash256 id) {
+		this.id = id == null ? null : id.toHex();
+	}
 }
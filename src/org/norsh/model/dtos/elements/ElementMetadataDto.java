@@ -1,7 +1,12 @@
 package org.norsh.model.dtos.elements;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
 import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.hashing.CompositeHashable;
+import org.norsh.model.hashing.FieldSink;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -38,7 +43,7 @@ import lombok.Setter;
 
 @Getter
 @Setter
-public class ElementMetadataDto extends CryptoSignedAbstractDto {
+public class ElementMetadataDto extends CryptoSignedAbstractDto implements CompositeHashable {
 	/** Id of the Smart Element. */
 	private String id;
 	
@@ -161,6 +166,14 @@ public class ElementMetadataDto extends CryptoSignedAbstractDto {
 //        super.validate(details);
 //        transaction.validate();
 //	}
-	
-	
+
+	@Override
+	public void writeCanonical(FieldSink sink) {
+		sink.put(id).put(name).put(logo).put(about).put(site).put(policy).put(getPublicKey());
+	}
+
+	@Override
+	public List<TransactionCreateDto> children() {
+		return Collections.singletonList(transaction);
+	}
 }
@@ -1,7 +1,12 @@
 package org.norsh.model.dtos.elements;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
 import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.hashing.CompositeHashable;
+import org.norsh.model.hashing.FieldSink;
 import org.norsh.model.types.Networks;
 
 import lombok.Getter;
@@ -47,7 +52,7 @@ import lombok.Setter;
  */
 @Getter
 @Setter
-public class ElementNetworkDto extends CryptoSignedAbstractDto {
+public class ElementNetworkDto extends CryptoSignedAbstractDto implements CompositeHashable {
     /** The unique identifier (hash) of the Smart Element. */
     private String id;
 
@@ -120,4 +125,14 @@ public class ElementNetworkDto extends CryptoSignedAbstractDto {
 //        super.validate(details);
 //        transaction.validate();
 //	}
+
+    @Override
+    public void writeCanonical(FieldSink sink) {
+        sink.put(id).put(network).put(address).put(getPublicKey());
+    }
+
+    @Override
+    public List<TransactionCreateDto> children() {
+        return Collections.singletonList(transaction);
+    }
 }
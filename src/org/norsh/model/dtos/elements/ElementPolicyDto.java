@@ -1,7 +1,15 @@
 package org.norsh.model.dtos.elements;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
 import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.hashing.CompositeHashable;
+import org.norsh.model.hashing.FieldSink;
+import org.norsh.model.types.Hash256;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -40,7 +48,7 @@ import lombok.Setter;
  */
 @Getter
 @Setter
-public class ElementPolicyDto extends CryptoSignedAbstractDto {
+public class ElementPolicyDto extends CryptoSignedAbstractDto implements CompositeHashable {
     
     /**
      * Unique identifier of the Smart Element.
@@ -152,4 +160,25 @@ public class ElementPolicyDto extends CryptoSignedAbstractDto {
 //		super.validate(details);
 //		transaction.validate();
 //	}
+
+    @Override
+    public void writeCanonical(FieldSink sink) {
+        sink.put(id).put(transactionTax == null ? null : transactionTax.toString()).put(freezeDuration).put(script).put(getPublicKey());
+    }
+
+    @Override
+    public List<TransactionCreateDto> children() {
+        return Collections.singletonList(transaction);
+    }
+
+    /** {@code id} as a binary {@link Hash256}; {@code null} if not set. */
+    @JsonIgnore
+    public Hash256 getIdHash256() {
+        return Hash256.fromHex(id);
+    }
+
+    @JsonIgnore
+    public void setIdHash256(Hash256 id) {
+        this.id = id == null ? null : id.toHex();
+    }
 }
@@ -1,13 +1,18 @@
 package org.norsh.model.dtos.transactions;
 
 import java.math.BigDecimal;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.norsh.exceptions.OperationException;
 import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
-import org.norsh.security.Hasher;
-import org.norsh.util.Strings;
+import org.norsh.model.hashing.CanonicalHashable;
+import org.norsh.model.hashing.CanonicalHasher;
+import org.norsh.model.hashing.FieldSink;
+import org.norsh.model.types.Amount;
+import org.norsh.model.types.Hash256;
+import org.norsh.model.validation.Hex;
+import org.norsh.model.validation.NotNegative;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -32,10 +37,16 @@ import lombok.Setter;
  */
 @Getter
 @Setter
-public class PaymentCreateDto extends CryptoSignedAbstractDto {
+public class PaymentCreateDto extends CryptoSignedAbstractDto implements CanonicalHashable {
+	@Hex(length = 64, message = "Invalid to: The 'to' field must be a valid 64-character hexadecimal hash.")
 	private String to; // Recipient's identifier
+
+	@Hex(length = 64, message = "Invalid element: The 'element' field must be a valid 64-character hexadecimal hash.")
 	private String element; // Smart Element
+
+	@NotNegative(message = "Invalid volume: The 'volume' field is required and cannot be null or empty and must be greater than zero.")
 	private BigDecimal volume; // Transaction volume
+
 	private String link; // Payment Reference Link
 	private Long nonce = 0l;
 
@@ -45,26 +56,55 @@ public class PaymentCreateDto extends CryptoSignedAbstractDto {
 	 * @throws OperationException if any validation rule is violated.
 	 */
 	public void validate() throws OperationException {
-		List<String> details = new LinkedList<>();
-
-		// Validate recipient (to)
-		if (to == null || !to.matches("^[a-f0-9]{64}$")) {
-			details.add("Invalid to: The 'to' field must be a valid 64-character hexadecimal hash.");
-		}
-
-		if (element == null || !element.matches("^[a-f0-9]{64}$")) {
-			details.add("Invalid element: The 'element' field must be a valid 64-character hexadecimal hash.");
-		}
-
-		if (volume == null || volume.compareTo(BigDecimal.ZERO) < 0) {
-			details.add("Invalid volume: The 'volume' field is required and cannot be null or empty and must be greater than zero.");
+		// Validate recipient (to), element and volume
+		String violation = PaymentCreateDtoValidator.firstViolation(this);
+		if (violation != null) {
+			throw new OperationException(violation);
 		}
 		
 		super.validatePublicKey();
 		
-		this.setHash(Hasher.sha256Hex(Strings.concatenate(to, element, volume, nonce, link, getPublicKey())));
+		this.setDigest(CanonicalHasher.digest(this));
 		
 		if (getRequestId() == null)
 			setRequestId(getHash());
 	}
+
+	/**
+	 * Converts {@code volume} to a fixed-point {@link Amount} of the payment element.
+	 *
+	 * @param decimals the decimals of the element.
+	 * @return the volume.
+	 * @throws ArithmeticException if the volume has more decimals than the element or is out of range.
+	 */
+	public Amount toVolumeAmount(int decimals) {
+		return Amount.of(volume, decimals);
+	}
+
+	@Override
+	public void writeCanonical(FieldSink sink) {
+		sink.put(to).put(element).put(volume).put(nonce).put(link).put(getPublicKey());
+	}
+
+	/** {@code to} as a binary {@link Hash256}; {@code null} if not set. */
+	@JsonIgnore
+	public Hash256 getToHash256() {
+		return Hash256.fromHex(to);
+	}
+
+	@JsonIgnore
+	public void setToHash256(Hash256 to) {
+		this.to = to == null ? null : to.toHex();
+	}
+
+	/** {@code element} as a binary {@link Hash256}; {@code null} if not set. */
+	@JsonIgnore
+	public Hash256 getElementHash256() {
+		return Hash256.fromHex(element);
+	}
+
+	@JsonIgnore
+	public void setElementHash256(Hash256 element) {
+		this.element = element == null ? null : element.toHex();
+	}
 }
@@ -1,14 +1,19 @@
 package org.norsh.model.dtos.transactions;
 
-import java.math.BigDecimal;
-import java.util.LinkedList;
-import java.util.List;
-
 import org.norsh.exceptions.OperationException;
 import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
-import org.norsh.security.Hasher;
-import org.norsh.util.Strings;
+import org.norsh.model.hashing.CompositeHasher;
+import org.norsh.model.hashing.FieldSink;
+import org.norsh.model.hashing.MemoizedHashable;
+import org.norsh.model.types.Amount;
+import org.norsh.model.types.Hash256;
+import org.norsh.model.validation.Decimal;
+import org.norsh.model.validation.Hex;
+import org.norsh.model.validation.NotBlank;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -26,51 +31,124 @@ import lombok.Setter;
  *   <li>{@code amount}: Must be a valid decimal number greater than 0.</li>
  *   <li>{@code nonce}: Must be a non-negative integer.</li>
  * </ul>
+ * <p>
+ * The canonical digest is memoized once computed and cleared by the setters of the hashed fields, so a transaction
+ * embedded in an element DTO is hashed only once for itself and its parent.
+ * </p>
  *
  * @since 1.0.0
  * @version 1.0.0
  */
 @Getter
 @Setter
-public class TransactionCreateDto extends CryptoSignedAbstractDto {
+public class TransactionCreateDto extends CryptoSignedAbstractDto implements MemoizedHashable {
+	@Hex(length = 64, message = "Invalid to: The 'to' field must be a valid 64-character hexadecimal hash.")
 	private String to;      // Recipient's identifier
+
+	@Hex(length = 64, message = "Invalid element: The 'element' field must be a valid 64-character hexadecimal hash.")
 	private String element; // Smart Element
+
+	@NotBlank(message = "Invalid volume: The 'volume' field is required and cannot be null or empty.")
+	@Decimal(message = "Invalid amount: The 'volume' field must be a valid decimal number.", negativeMessage = "Invalid volume: The 'volume' field must be greater than zero.")
 	private String volume;  // Transaction volume
+
 	private Long nonce = 0l;
 
+	/** Canonical digest computed locally; unlike {@code digest}, never set from received data. */
+	@JsonIgnore
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private volatile byte[] canonicalDigest;
+
 	/**
 	 * Validates the fields of the PaymentCreateDto based on predefined business rules.
 	 *
 	 * @throws OperationException if any validation rule is violated.
 	 */
 	public void validate() throws OperationException {
-		List<String> details = new LinkedList<>();
-
-		// Validate recipient (to)
-		if (to == null || !to.matches("^[a-f0-9]{64}$")) {
-			details.add("Invalid to: The 'to' field must be a valid 64-character hexadecimal hash.");
-		}
-		
-		if (element == null || !element.matches("^[a-f0-9]{64}$")) {
-			details.add("Invalid element: The 'element' field must be a valid 64-character hexadecimal hash.");
+		// Validate recipient (to), element and volume
+		String violation = TransactionCreateDtoValidator.firstViolation(this);
+		if (violation != null) {
+			throw new OperationException(violation);
 		}
 
-		// Validate volume
-		try {
-			if (volume == null || volume.isBlank()) {
-				details.add("Invalid volume: The 'volume' field is required and cannot be null or empty.");
-			} else {
-				BigDecimal bdAmount = new BigDecimal(volume);
-				if (bdAmount.compareTo(BigDecimal.ZERO) < 0) {
-					details.add("Invalid volume: The 'volume' field must be greater than zero.");
-				}
-			}
-		} catch (NumberFormatException ex) {
-			details.add("Invalid amount: The 'volume' field must be a valid decimal number.");
-		}
-
-		this.setHash(Hasher.sha256Hex(Strings.concatenate(to, element, volume, nonce, getPublicKey())));
+		this.setDigest(CompositeHasher.partDigest(this));
 		
 		super.validate();
 	}
+
+	/**
+	 * Parses {@code volume} as a fixed-point {@link Amount} of the transaction element.
+	 *
+	 * @param decimals the decimals of the element.
+	 * @return the volume.
+	 * @throws NumberFormatException if the volume is not a valid decimal number.
+	 * @throws ArithmeticException   if the volume has more decimals than the element or is out of range.
+	 */
+	public Amount toVolumeAmount(int decimals) {
+		return Amount.parse(volume, decimals);
+	}
+
+	@Override
+	public void writeCanonical(FieldSink sink) {
+		sink.put(to).put(element).put(volume).put(nonce).put(getPublicKey());
+	}
+
+	@Override
+	public byte[] memoizedDigest() {
+		return canonicalDigest;
+	}
+
+	@Override
+	public void memoizeDigest(byte[] digest) {
+		this.canonicalDigest = digest;
+	}
+
+	public void setTo(String to) {
+		this.to = to;
+		this.canonicalDigest = null;
+	}
+
+	public void setElement(String element) {
+		this.element = element;
+		this.canonicalDigest = null;
+	}
+
+	public void setVolume(String volume) {
+		this.volume = volume;
+		this.canonicalDigest = null;
+	}
+
+	public void setNonce(Long nonce) {
+		this.nonce = nonce;
+		this.canonicalDigest = null;
+	}
+
+	@Override
+	public void setPublicKey(String publicKey) {
+		super.setPublicKey(publicKey);
+		this.canonicalDigest = null;
+	}
+
+	/** {@code to} as a binary {@link Hash256}; {@code null} if not set. */
+	@JsonIgnore
+	public Hash256 getToHash256() {
+		return Hash256.fromHex(to);
+	}
+
+	@JsonIgnore
+	public void setToHash256(Hash256 to) {
+		setTo(to == null ? null : to.toHex());
+	}
+
+	/** {@code element} as a binary {@link Hash256}; {@code null} if not set. */
+	@JsonIgnore
+	public Hash256 getElementHash256() {
+		return Hash256.fromHex(element);
+	}
+
+	@JsonIgnore
+	public void setElementHash256(Hash256 element) {
+		setElement(element == null ? null : element.toHex());
+	}
 }
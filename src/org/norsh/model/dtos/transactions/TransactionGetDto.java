@@ -1,11 +1,13 @@
 package org.norsh.model.dtos.transactions;
 
-import java.util.LinkedList;
-import java.util.List;
-
 import org.norsh.constants.Constants;
+import org.norsh.exceptions.OperationException;
 import org.norsh.model.dtos.DistributedDto;
 import org.norsh.model.types.ElementType;
+import org.norsh.model.types.Hash256;
+import org.norsh.model.validation.Hex;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -50,17 +52,26 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class TransactionGetDto extends DistributedDto {
+	@Hex(length = 64, ignoreCase = true, message = "Invalid id: The 'id' field must be a valid 64-character hexadecimal hash.")
 	private String id;
 
 	@Override
-	public void validate() {
-		List<String> details = new LinkedList<>();
-
+	public void validate() throws OperationException {
 		// Validate Hash
-		if (getId() == null || !getId().matches("^[a-fA-F0-9]{64}$")) {
-			details.add("Invalid id: The 'id' field must be a valid 64-character hexadecimal hash.");
+		String violation = TransactionGetDtoValidator.firstViolation(this);
+		if (violation != null) {
+			throw new OperationException(violation);
 		}
-		
 	}
 
+	/** {@code id} as a binary {@link Hash256}; {@code null} if not set. */
+	@JsonIgnore
+	public Hash256 getIdHash256() {
+		return Hash256.fromHex(id);
+	}
+
+	@JsonIgnore
+	public void setIdHash256(Hash256 id) {
+		this.id = id == null ? null : id.toHex();
+	}
 }
@@ -0,0 +1,75 @@
+package org.norsh.model.events;
+
+import org.norsh.model.transport.DataTransfer;
+import org.norsh.model.transport.RawPayload;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the creation of a {@link DataTransfer} request and its conversion to a response.
+ * <p>
+ * Disabled by default, with no cost until enabled (see {@link HashEvent}).
+ * </p>
+ * <p>
+ * The payload size is only recorded when the request data is a {@link RawPayload}. Decoded DTOs have no encoded form
+ * to measure, and encoding them only for the event would cost more than the operation it records, so their size is
+ * -1.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DataTransfer
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Name("org.norsh.DataTransfer")
+@Label("Data Transfer")
+@Description("Creation of a DataTransfer request or its conversion to a response")
+@Category({ "Norsh", "Transport" })
+@Enabled(false)
+@StackTrace(false)
+public class DataTransferEvent extends Event {
+	/** Creation of a request. */
+	public static final String CREATE = "create";
+
+	/** Conversion with {@link DataTransfer#toResponse()}. */
+	public static final String TO_RESPONSE = "toResponse";
+
+	@Label("Operation")
+	private String operation;
+
+	@Label("DTO Type")
+	private String dtoType;
+
+	@Label("Request Id")
+	private String requestId;
+
+	@Label("Payload Size")
+	@Description("Encoded size of a RawPayload request, or -1 for decoded DTOs, whose size is not recorded")
+	@DataAmount
+	private long payloadSize;
+
+	/**
+	 * Ends the event and commits it if it passes the recording settings.
+	 *
+	 * @param operation   {@link #CREATE} or {@link #TO_RESPONSE}.
+	 * @param dtoType     the request class name.
+	 * @param requestId   the request identifier.
+	 * @param requestData the request data, possibly a {@link RawPayload}.
+	 */
+	public void end(String operation, String dtoType, String requestId, Object requestData) {
+		if (shouldCommit()) {
+			this.operation = operation;
+			this.dtoType = dtoType;
+			this.requestId = requestId;
+			this.payloadSize = requestData instanceof RawPayload raw ? raw.bytes().remaining() : -1;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package org.norsh.model.events;
+
+import org.norsh.model.dtos.DistributedDto;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the canonical hashing of a DTO.
+ * <p>
+ * Disabled by default; enable it with {@code -XX:StartFlightRecording:settings=...} or
+ * {@code jfr configure org.norsh.Hash#enabled=true}. While disabled, {@code begin()} and {@code shouldCommit()} are
+ * no-ops that the JIT removes along with the allocation of the event.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see org.norsh.model.hashing.CanonicalHasher
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Name("org.norsh.Hash")
+@Label("Canonical Hash")
+@Description("Canonical SHA-256 hashing of a DTO")
+@Category({ "Norsh", "Validation" })
+@Enabled(false)
+@StackTrace(false)
+public class HashEvent extends Event {
+	@Label("DTO Type")
+	private String dtoType;
+
+	@Label("Request Id")
+	private String requestId;
+
+	@Label("Payload Size")
+	@Description("Bytes fed to the digest")
+	@DataAmount
+	private long payloadSize;
+
+	/**
+	 * Ends the event and commits it if it passes the recording settings.
+	 *
+	 * @param value       the hashed value.
+	 * @param payloadSize the number of bytes hashed.
+	 */
+	public void end(Object value, long payloadSize) {
+		if (shouldCommit()) {
+			this.dtoType = value.getClass().getName();
+			this.requestId = value instanceof DistributedDto dto ? dto.getRequestId() : null;
+			this.payloadSize = payloadSize;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package org.norsh.model.events;
+
+import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a public key or signature check of a signed DTO.
+ * <p>
+ * Disabled by default, with no cost until enabled (see {@link HashEvent}).
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see CryptoSignedAbstractDto#validatePublicKey()
+ * @see org.norsh.model.security.SignatureVerifier
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Name("org.norsh.SignatureCheck")
+@Label("Signature Check")
+@Description("Public key format check or ECDSA signature verification of a signed DTO")
+@Category({ "Norsh", "Validation" })
+@Enabled(false)
+@StackTrace(false)
+public class SignatureCheckEvent extends Event {
+	/** Check of the {@code publicKey} format. */
+	public static final String PUBLIC_KEY = "publicKey";
+
+	/** Verification of the {@code signature}. */
+	public static final String SIGNATURE = "signature";
+
+	@Label("Check")
+	private String check;
+
+	@Label("DTO Type")
+	private String dtoType;
+
+	@Label("Request Id")
+	private String requestId;
+
+	@Label("Payload Size")
+	@Description("Characters of the checked public key or signature")
+	@DataAmount
+	private long payloadSize;
+
+	@Label("Passed")
+	private boolean passed;
+
+	/**
+	 * Ends the event and commits it if it passes the recording settings.
+	 *
+	 * @param check  {@link #PUBLIC_KEY} or {@link #SIGNATURE}.
+	 * @param dto    the checked DTO.
+	 * @param passed whether the check succeeded.
+	 */
+	public void end(String check, CryptoSignedAbstractDto dto, boolean passed) {
+		if (shouldCommit()) {
+			String value = SIGNATURE.equals(check) ? dto.getSignature() : dto.getPublicKey();
+			this.check = check;
+			this.dtoType = dto.getClass().getName();
+			this.requestId = dto.getRequestId();
+			this.payloadSize = value == null ? 0 : value.length();
+			this.passed = passed;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package org.norsh.model.hashing;
+
+/**
+ * Object whose integrity hash is computed from an ordered list of fields.
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * public void writeCanonical(FieldSink sink) {
+ *     sink.put(to).put(element).put(volume).put(nonce).put(getPublicKey());
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see CanonicalHasher#digest(CanonicalHashable)
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public interface CanonicalHashable {
+	/**
+	 * Writes the fields covered by the hash, in canonical order.
+	 *
+	 * @param sink the sink receiving the fields.
+	 */
+	void writeCanonical(FieldSink sink);
+}
@@ -0,0 +1,270 @@
+package org.norsh.model.hashing;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.norsh.model.events.HashEvent;
+
+/**
+ * Streaming SHA-256 computation of canonical DTO hashes.
+ * <p>
+ * Fields are encoded as UTF-8 straight into a {@link MessageDigest} owned by the calling thread, replacing
+ * {@code Hasher.sha256Hex(Strings.concatenate(...))}, which builds a temporary string, encodes it to a byte array and
+ * hex encodes the digest. The result is the raw 32-byte digest; hex encoding is left to the caller and is usually done
+ * lazily (see {@link #toHex(byte[])}).
+ * </p>
+ *
+ * <h2>Compatibility:</h2>
+ * <p>
+ * Signed requests must keep producing the same hash. The preimage is the concatenation of the fields as UTF-8, with
+ * {@code null} fields contributing nothing, as {@code Strings.concatenate} writes them. {@code CanonicalHasherTest}
+ * checks the streaming encoder against {@code Hasher.sha256Hex(Strings.concatenate(...))} for every encoding rule.
+ * </p>
+ * <p>
+ * Each call is reported as a {@link HashEvent} when that Flight Recorder event is enabled.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see CanonicalHashable
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class CanonicalHasher {
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private static final ThreadLocal<StreamingSink> SINKS = ThreadLocal.withInitial(StreamingSink::new);
+
+	private CanonicalHasher() {
+	}
+
+	/**
+	 * Computes the SHA-256 digest of the canonical fields of the given value.
+	 *
+	 * @param value the value to hash.
+	 * @return the 32-byte digest.
+	 */
+	public static byte[] digest(CanonicalHashable value) {
+		HashEvent event = new HashEvent();
+		event.begin();
+		StreamingSink sink = SINKS.get();
+		if (sink.busy) {
+			// Nested hashing on the same thread (e.g. a child DTO hashed while writing its parent)
+			sink = new StreamingSink();
+		}
+		byte[] digest = sink.digest(value);
+		event.end(value, sink.hashed);
+		return digest;
+	}
+
+	/**
+	 * Encodes bytes as lowercase hexadecimal.
+	 *
+	 * @param bytes the bytes to encode.
+	 * @return the hexadecimal representation.
+	 */
+	public static String toHex(byte[] bytes) {
+		char[] out = new char[bytes.length << 1];
+		for (int i = 0, j = 0; i < bytes.length; i++) {
+			out[j++] = HEX[(bytes[i] >> 4) & 0x0f];
+			out[j++] = HEX[bytes[i] & 0x0f];
+		}
+		return new String(out);
+	}
+
+	/**
+	 * Decodes a hexadecimal string, in either case.
+	 *
+	 * @param hex the hexadecimal string.
+	 * @return the decoded bytes.
+	 * @throws IllegalArgumentException if the value is not valid hexadecimal.
+	 */
+	public static byte[] fromHex(String hex) {
+		if ((hex.length() & 1) != 0) {
+			throw new IllegalArgumentException("Invalid hexadecimal: odd number of characters.");
+		}
+
+		byte[] out = new byte[hex.length() >> 1];
+		for (int i = 0; i < out.length; i++) {
+			out[i] = (byte) ((nibble(hex.charAt(i << 1)) << 4) | nibble(hex.charAt((i << 1) + 1)));
+		}
+		return out;
+	}
+
+	static int nibble(char c) {
+		if (c >= '0' && c <= '9') {
+			return c - '0';
+		} else if (c >= 'a' && c <= 'f') {
+			return c - 'a' + 10;
+		} else if (c >= 'A' && c <= 'F') {
+			return c - 'A' + 10;
+		}
+		throw new IllegalArgumentException("Invalid hexadecimal character: " + c);
+	}
+
+	static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 is not available", ex);
+		}
+	}
+
+	/**
+	 * Thread-confined sink encoding fields into a reusable buffer and digest.
+	 */
+	private static final class StreamingSink implements FieldSink {
+		private final MessageDigest digest = sha256();
+		private final byte[] buffer = new byte[512];
+		private int position;
+		private boolean busy;
+
+		/** Bytes fed to the digest by the last call. */
+		private long hashed;
+
+		/** High surrogate ending the previous field, which the legacy concatenation may pair with the next one. */
+		private char pendingHigh;
+
+		byte[] digest(CanonicalHashable value) {
+			busy = true;
+			hashed = 0;
+			try {
+				value.writeCanonical(this);
+				resolvePending();
+				flush();
+				return digest.digest();
+			} finally {
+				digest.reset();
+				position = 0;
+				pendingHigh = 0;
+				busy = false;
+			}
+		}
+
+		@Override
+		public FieldSink put(String value) {
+			if (value == null) {
+				return putNull();
+			}
+
+			int length = value.length();
+			int i = 0;
+			if (pendingHigh != 0 && length > 0 && Character.isLowSurrogate(value.charAt(0))) {
+				putCodePoint(Character.toCodePoint(pendingHigh, value.charAt(i++)));
+				pendingHigh = 0;
+			} else if (length > 0) {
+				resolvePending();
+			}
+
+			for (; i < length; i++) {
+				char c = value.charAt(i);
+				if (position + 4 > buffer.length) {
+					flush();
+				}
+
+				if (c < 0x80) {
+					buffer[position++] = (byte) c;
+				} else if (c < 0x800) {
+					buffer[position++] = (byte) (0xc0 | (c >> 6));
+					buffer[position++] = (byte) (0x80 | (c & 0x3f));
+				} else if (!Character.isSurrogate(c)) {
+					buffer[position++] = (byte) (0xe0 | (c >> 12));
+					buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+					buffer[position++] = (byte) (0x80 | (c & 0x3f));
+				} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+					putCodePoint(Character.toCodePoint(c, value.charAt(++i)));
+				} else if (Character.isHighSurrogate(c) && i + 1 == length) {
+					pendingHigh = c;
+				} else {
+					// Malformed surrogate, replaced as String.getBytes(UTF_8) does
+					buffer[position++] = '?';
+				}
+			}
+			return this;
+		}
+
+		@Override
+		public FieldSink put(long value) {
+			if (value == Long.MIN_VALUE) {
+				return put("-9223372036854775808");
+			}
+			resolvePending();
+			if (position + 20 > buffer.length) {
+				flush();
+			}
+			if (value < 0) {
+				buffer[position++] = '-';
+				value = -value;
+			}
+
+			int end = position + digits(value);
+			for (int i = end - 1; i >= position; i--) {
+				buffer[i] = (byte) ('0' + (value % 10));
+				value /= 10;
+			}
+			position = end;
+			return this;
+		}
+
+		@Override
+		public FieldSink put(Long value) {
+			return value == null ? putNull() : put(value.longValue());
+		}
+
+		@Override
+		public FieldSink put(Integer value) {
+			return value == null ? putNull() : put(value.longValue());
+		}
+
+		@Override
+		public FieldSink put(BigDecimal value) {
+			return value == null ? putNull() : put(value.toString());
+		}
+
+		@Override
+		public FieldSink put(Enum<?> value) {
+			return value == null ? putNull() : put(value.toString());
+		}
+
+		/** Null fields contribute nothing to the preimage. */
+		private FieldSink putNull() {
+			return this;
+		}
+
+		private void putCodePoint(int codePoint) {
+			if (position + 4 > buffer.length) {
+				flush();
+			}
+			buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+			buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+			buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+			buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+		}
+
+		/** Writes a pending high surrogate that was not followed by its low surrogate. */
+		private void resolvePending() {
+			if (pendingHigh != 0) {
+				pendingHigh = 0;
+				if (position + 1 > buffer.length) {
+					flush();
+				}
+				buffer[position++] = '?';
+			}
+		}
+
+		private void flush() {
+			digest.update(buffer, 0, position);
+			hashed += position;
+			position = 0;
+		}
+
+		private static int digits(long value) {
+			int digits = 1;
+			while (value >= 10) {
+				value /= 10;
+				digits++;
+			}
+			return digits;
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package org.norsh.model.hashing;
+
+import java.util.List;
+
+/**
+ * {@link CanonicalHashable} that embeds other hashable parts, each folded into its digest as a child node.
+ * <p>
+ * The element policy, network and metadata DTOs implement it with their embedded {@code transaction} as the only
+ * child, so the transaction digest is computed once and reused. {@link CompositeHasher} describes the node layout.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * public void writeCanonical(FieldSink sink) {
+ *     sink.put(id).put(name).put(getPublicKey());
+ * }
+ *
+ * public List&lt;CanonicalHashable&gt; children() {
+ *     return Collections.singletonList(transaction);
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see CompositeHasher
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public interface CompositeHashable extends CanonicalHashable {
+	/**
+	 * Returns the embedded parts, in canonical order. The list has a fixed size; absent parts are {@code null}.
+	 *
+	 * @return the child parts.
+	 */
+	List<? extends CanonicalHashable> children();
+}
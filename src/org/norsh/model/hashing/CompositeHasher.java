@@ -0,0 +1,112 @@
+package org.norsh.model.hashing;
+
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Merkle-style hashing of DTOs that embed other hashable parts.
+ * <p>
+ * The digest of a {@link CompositeHashable} is a node over the digest of its own fields and the digests of its
+ * children:
+ * </p>
+ * <pre>
+ * root = SHA-256(0x01 || leaf || child_1 || ... || child_n)
+ * leaf = CanonicalHasher.digest(parent)
+ * </pre>
+ * <p>
+ * Each child digest is its own canonical hash (or its composite hash, for nested composites), and an absent child
+ * counts as 32 zero bytes. Children implementing {@link MemoizedHashable} are hashed once and reuse the memoized
+ * digest afterwards, so a nested {@code TransactionCreateDto} validated on its own is not hashed again for its
+ * parent. Since the root only depends on the leaf and child digests, a node that already holds them can verify each
+ * part independently with {@link #root(byte[], byte[]...)}.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * policy.setDigest(CompositeHasher.digest(policy));
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see CanonicalHasher
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class CompositeHasher {
+	/** Domain prefix of node digests, which keeps them distinct from canonical leaf digests. */
+	private static final byte NODE = 0x01;
+
+	private static final byte[] ABSENT = new byte[32];
+
+	private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(CanonicalHasher::sha256);
+
+	private CompositeHasher() {
+	}
+
+	/**
+	 * Computes the digest of a value, as a node for composites and as a canonical leaf otherwise.
+	 *
+	 * @param value the value to hash.
+	 * @return the 32-byte digest.
+	 */
+	public static byte[] digestOf(CanonicalHashable value) {
+		return value instanceof CompositeHashable composite ? digest(composite) : CanonicalHasher.digest(value);
+	}
+
+	/**
+	 * Computes the node digest of a composite value.
+	 *
+	 * @param value the value to hash.
+	 * @return the 32-byte digest.
+	 */
+	public static byte[] digest(CompositeHashable value) {
+		List<? extends CanonicalHashable> children = value.children();
+		byte[][] digests = new byte[children.size()][];
+		for (int i = 0; i < digests.length; i++) {
+			digests[i] = partDigest(children.get(i));
+		}
+		return root(CanonicalHasher.digest(value), digests);
+	}
+
+	/**
+	 * Returns the digest of a part, reusing and filling its memo when it is a {@link MemoizedHashable}.
+	 *
+	 * @param part the part, or {@code null}.
+	 * @return the digest, or {@code null} for an absent part.
+	 */
+	public static byte[] partDigest(CanonicalHashable part) {
+		if (part == null) {
+			return null;
+		}
+		if (!(part instanceof MemoizedHashable memoized)) {
+			return digestOf(part);
+		}
+
+		byte[] digest = memoized.memoizedDigest();
+		if (digest == null) {
+			digest = digestOf(part);
+			memoized.memoizeDigest(digest);
+		}
+		return digest;
+	}
+
+	/**
+	 * Combines a leaf digest and child digests into a node digest.
+	 *
+	 * @param leaf     the canonical digest of the parent fields.
+	 * @param children the child digests, in canonical order; {@code null} for absent children.
+	 * @return the 32-byte node digest.
+	 */
+	public static byte[] root(byte[] leaf, byte[]... children) {
+		MessageDigest digest = DIGESTS.get();
+		try {
+			digest.update(NODE);
+			digest.update(leaf);
+			for (byte[] child : children) {
+				digest.update(child == null ? ABSENT : child);
+			}
+			return digest.digest();
+		} finally {
+			digest.reset();
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package org.norsh.model.hashing;
+
+import java.math.BigDecimal;
+
+/**
+ * Receives the fields of a {@link CanonicalHashable} in canonical order.
+ * <p>
+ * Each value is written with the same textual form as {@link String#valueOf(Object)}, without separators, so that the
+ * resulting digest is identical to hashing the concatenation of the fields. {@code null} values are written according
+ * to the convention of the legacy concatenation.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see CanonicalHasher
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public interface FieldSink {
+	FieldSink put(String value);
+
+	FieldSink put(long value);
+
+	FieldSink put(Long value);
+
+	FieldSink put(Integer value);
+
+	FieldSink put(BigDecimal value);
+
+	FieldSink put(Enum<?> value);
+}
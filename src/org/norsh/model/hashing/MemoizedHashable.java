@@ -0,0 +1,29 @@
+package org.norsh.model.hashing;
+
+/**
+ * {@link CanonicalHashable} that keeps its own canonical digest once computed.
+ * <p>
+ * Implementations clear the memo whenever a hashed field changes. The memo is only ever set by
+ * {@link CompositeHasher}, never from received data, so it can be trusted for verification.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see CompositeHasher#partDigest(CanonicalHashable)
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public interface MemoizedHashable extends CanonicalHashable {
+	/**
+	 * Returns the memoized digest.
+	 *
+	 * @return the digest, or {@code null} if not computed since the last change.
+	 */
+	byte[] memoizedDigest();
+
+	/**
+	 * Stores the computed digest.
+	 *
+	 * @param digest the 32-byte digest.
+	 */
+	void memoizeDigest(byte[] digest);
+}
@@ -0,0 +1,42 @@
+package org.norsh.model.hashing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Inclusion proof of one entry in a {@link MerkleTree}.
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * MerkleProof proof = tree.proof(index);
+ * boolean included = proof.verify(root, transaction.getDigest());
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see MerkleTree
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Getter
+@AllArgsConstructor
+public class MerkleProof {
+	/** Position of the entry in the tree. */
+	private final long index;
+
+	/** Number of entries of the tree the proof was generated for. */
+	private final long size;
+
+	/** Sibling hashes from the leaf up to the root, 32 bytes each. */
+	private final byte[][] path;
+
+	/**
+	 * Checks that the entry is included in the tree with the given root.
+	 *
+	 * @param root  the 32-byte root of a tree of {@link #size} entries.
+	 * @param entry the 32-byte entry hash.
+	 * @return {@code true} if the proof binds the entry at {@link #index} to the root.
+	 */
+	public boolean verify(byte[] root, byte[] entry) {
+		return MerkleTree.verify(root, entry, this);
+	}
+}
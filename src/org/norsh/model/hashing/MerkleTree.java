@@ -0,0 +1,352 @@
+package org.norsh.model.hashing;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Append-only Merkle tree over 32-byte hashes, such as the digests of validated transactions.
+ * <p>
+ * The tree follows the shape and hashing of RFC 9162: a leaf is {@code SHA-256(0x00 || entry)}, a node is
+ * {@code SHA-256(0x01 || left || right)}, and a tree of {@code n} entries splits at the largest power of two below
+ * {@code n}. Unbalanced trees never duplicate entries, so two different batches cannot share a root.
+ * </p>
+ *
+ * <h2>Storage:</h2>
+ * <p>
+ * Every complete, aligned subtree is kept in a per-level array of raw digests, about {@code 64 * n} bytes in total.
+ * Appending an entry hashes at most one node per level, the root folds at most one subtree per level, and a proof
+ * reads its siblings from the arrays, recomputing only the incomplete right edge of the tree.
+ * </p>
+ *
+ * <h2>Bulk Appends:</h2>
+ * <p>
+ * {@link #appendAll(byte[][])} hashes the leaves and then each level on a {@link ForkJoinPool}, splitting each level
+ * into ranges of nodes.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * MerkleTree tree = new MerkleTree();
+ * tree.appendAll(digests);
+ * byte[] root = tree.root();
+ * MerkleProof proof = tree.proof(42);
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see MerkleProof
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class MerkleTree {
+	private static final int HASH = 32;
+	private static final byte LEAF = 0x00;
+	private static final byte NODE = 0x01;
+
+	/** Number of nodes below which a task is no longer split. */
+	private static final int THRESHOLD = 2048;
+
+	private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(CanonicalHasher::sha256);
+
+	private final ForkJoinPool pool;
+
+	/** Digests of the complete, aligned subtrees of {@code 2^h} entries, in order, for each level {@code h}. */
+	private final List<byte[]> levels = new ArrayList<>();
+
+	private long size;
+
+	/**
+	 * Creates an empty tree whose bulk appends run on the common fork-join pool.
+	 */
+	public MerkleTree() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates an empty tree whose bulk appends run on the given pool.
+	 *
+	 * @param pool the pool hashing the levels.
+	 */
+	public MerkleTree(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Appends an entry.
+	 *
+	 * @param entry the 32-byte hash.
+	 * @return the index of the entry.
+	 */
+	public synchronized long append(byte[] entry) {
+		check(entry);
+		long index = size;
+		ensureCapacity(index + 1);
+
+		leaf(entry, levels.get(0), (int) index);
+		for (int h = 0; ((index + 1) >>> h & 1) == 0; h++) {
+			// The entry completes a subtree of 2^(h+1) entries
+			int node = (int) ((index + 1) >>> (h + 1)) - 1;
+			node(levels.get(h), node << 1, levels.get(h + 1), node);
+		}
+		size = index + 1;
+		return index;
+	}
+
+	/**
+	 * Appends entries, hashing them and every completed subtree in parallel.
+	 *
+	 * @param entries the 32-byte hashes, in order.
+	 * @return the index of the first entry.
+	 */
+	public synchronized long appendAll(byte[][] entries) {
+		for (byte[] entry : entries) {
+			check(entry);
+		}
+
+		long first = size;
+		long end = first + entries.length;
+		if (entries.length == 0) {
+			return first;
+		}
+		ensureCapacity(end);
+
+		pool.invoke(new LeafTask(entries, levels.get(0), (int) first, 0, entries.length));
+		for (int h = 0; h + 1 < levels.size(); h++) {
+			int from = (int) (first >>> (h + 1));
+			int to = (int) (end >>> (h + 1));
+			if (from < to) {
+				pool.invoke(new NodeTask(levels.get(h), levels.get(h + 1), from, to));
+			}
+		}
+		size = end;
+		return first;
+	}
+
+	public synchronized long size() {
+		return size;
+	}
+
+	/**
+	 * Returns the root of the tree.
+	 *
+	 * @return the 32-byte root; {@code SHA-256("")} for an empty tree.
+	 */
+	public synchronized byte[] root() {
+		if (size == 0) {
+			return DIGESTS.get().digest();
+		}
+		return subtree(0, size);
+	}
+
+	/**
+	 * Returns the entry at the given index.
+	 *
+	 * @param index the index of the entry.
+	 * @return the leaf digest, {@code SHA-256(0x00 || entry)}.
+	 */
+	public synchronized byte[] leaf(long index) {
+		checkIndex(index);
+		return Arrays.copyOfRange(levels.get(0), (int) index * HASH, (int) (index + 1) * HASH);
+	}
+
+	/**
+	 * Generates the inclusion proof of an entry in the current tree.
+	 *
+	 * @param index the index of the entry.
+	 * @return the proof, valid for the current {@link #root()}.
+	 */
+	public synchronized MerkleProof proof(long index) {
+		checkIndex(index);
+		List<byte[]> path = new ArrayList<>();
+		path(index, 0, size, path);
+		return new MerkleProof(index, size, path.toArray(new byte[0][]));
+	}
+
+	/**
+	 * Checks an inclusion proof, following RFC 9162.
+	 *
+	 * @param root  the 32-byte root.
+	 * @param entry the 32-byte entry hash.
+	 * @param proof the proof.
+	 * @return {@code true} if the proof binds the entry to the root.
+	 */
+	public static boolean verify(byte[] root, byte[] entry, MerkleProof proof) {
+		if (root == null || root.length != HASH || entry == null || entry.length != HASH || proof.getIndex() < 0 || proof.getIndex() >= proof.getSize()) {
+			return false;
+		}
+
+		long fn = proof.getIndex();
+		long sn = proof.getSize() - 1;
+		byte[] r = new byte[HASH];
+		leaf(entry, r, 0);
+		for (byte[] sibling : proof.getPath()) {
+			if (sn == 0 || sibling == null || sibling.length != HASH) {
+				return false;
+			}
+			if ((fn & 1) == 1 || fn == sn) {
+				r = hash(sibling, r);
+				while ((fn & 1) == 0 && fn != 0) {
+					fn >>>= 1;
+					sn >>>= 1;
+				}
+			} else {
+				r = hash(r, sibling);
+			}
+			fn >>>= 1;
+			sn >>>= 1;
+		}
+		return sn == 0 && MessageDigest.isEqual(r, root);
+	}
+
+	/**
+	 * Computes the hash of the entries {@code [from, to)}, reading complete aligned subtrees from the levels.
+	 */
+	private byte[] subtree(long from, long to) {
+		long count = to - from;
+		int h = Long.numberOfTrailingZeros(count);
+		if (Long.bitCount(count) == 1 && (from & (count - 1)) == 0) {
+			int offset = (int) (from >>> h) * HASH;
+			return Arrays.copyOfRange(levels.get(h), offset, offset + HASH);
+		}
+
+		long split = Long.highestOneBit(count - 1);
+		return hash(subtree(from, from + split), subtree(from + split, to));
+	}
+
+	private void path(long index, long from, long to, List<byte[]> path) {
+		if (to - from == 1) {
+			return;
+		}
+
+		long split = Long.highestOneBit(to - from - 1);
+		if (index < from + split) {
+			path(index, from, from + split, path);
+			path.add(subtree(from + split, to));
+		} else {
+			path(index, from + split, to, path);
+			path.add(subtree(from, from + split));
+		}
+	}
+
+	/**
+	 * Grows the levels to hold {@code size} entries.
+	 */
+	private void ensureCapacity(long size) {
+		if (size > Integer.MAX_VALUE / HASH) {
+			throw new IllegalStateException("Merkle tree is full: " + size + " entries.");
+		}
+
+		int height = 64 - Long.numberOfLeadingZeros(size);
+		for (int h = 0; h < height; h++) {
+			int required = (int) (size >>> h) * HASH;
+			if (h == levels.size()) {
+				levels.add(new byte[Math.max(required, HASH * 16)]);
+			} else if (levels.get(h).length < required) {
+				levels.set(h, Arrays.copyOf(levels.get(h), Math.max(required, levels.get(h).length * 2)));
+			}
+		}
+	}
+
+	private void checkIndex(long index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Invalid index: " + index + " is outside a tree of " + size + " entries.");
+		}
+	}
+
+	private static void check(byte[] entry) {
+		if (entry == null || entry.length != HASH) {
+			throw new IllegalArgumentException("Invalid entry: Merkle tree entries must be 32-byte hashes.");
+		}
+	}
+
+	private static void leaf(byte[] entry, byte[] target, int index) {
+		MessageDigest digest = DIGESTS.get();
+		digest.update(LEAF);
+		digest.update(entry);
+		finish(digest, target, index);
+	}
+
+	private static void node(byte[] children, int child, byte[] target, int index) {
+		MessageDigest digest = DIGESTS.get();
+		digest.update(NODE);
+		digest.update(children, child * HASH, HASH << 1);
+		finish(digest, target, index);
+	}
+
+	private static byte[] hash(byte[] left, byte[] right) {
+		MessageDigest digest = DIGESTS.get();
+		digest.update(NODE);
+		digest.update(left);
+		return digest.digest(right);
+	}
+
+	private static void finish(MessageDigest digest, byte[] target, int index) {
+		try {
+			digest.digest(target, index * HASH, HASH);
+		} catch (DigestException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static class LeafTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final byte[][] entries;
+		private final byte[] target;
+		private final int first;
+		private final int from;
+		private final int to;
+
+		LeafTask(byte[][] entries, byte[] target, int first, int from, int to) {
+			this.entries = entries;
+			this.target = target;
+			this.first = first;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= THRESHOLD) {
+				for (int i = from; i < to; i++) {
+					leaf(entries[i], target, first + i);
+				}
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new LeafTask(entries, target, first, from, middle), new LeafTask(entries, target, first, middle, to));
+			}
+		}
+	}
+
+	private static class NodeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final byte[] children;
+		private final byte[] target;
+		private final int from;
+		private final int to;
+
+		NodeTask(byte[] children, byte[] target, int from, int to) {
+			this.children = children;
+			this.target = target;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= THRESHOLD) {
+				for (int i = from; i < to; i++) {
+					node(children, i << 1, target, i);
+				}
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new NodeTask(children, target, from, middle), new NodeTask(children, target, middle, to));
+			}
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package org.norsh.model.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets.
+ * <p>
+ * Each power of two is split in four buckets, so a bucket bound is within 25% of any value it holds. Buckets are
+ * {@link LongAdder}s, which stripe concurrent increments across cells: recording is a few bit operations and one
+ * uncontended add.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see ValidationMetrics
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class LatencyHistogram {
+	/** Sub-buckets per power of two, as a number of bits. */
+	private static final int SUB_BITS = 2;
+
+	/** Number of buckets, covering every non-negative {@code long}. */
+	public static final int BUCKETS = (64 - SUB_BITS + 1) << SUB_BITS;
+
+	private final LongAdder[] counts = new LongAdder[BUCKETS];
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	public LatencyHistogram() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos the latency in nanoseconds; negative values are recorded as zero.
+	 */
+	public void record(long nanos) {
+		long value = Math.max(nanos, 0);
+		counts[bucketOf(value)].increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * Copies the bucket counts.
+	 *
+	 * @return the count of each bucket, see {@link #upperBound(int)}.
+	 */
+	public long[] counts() {
+		long[] result = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			result[i] = counts[i].sum();
+		}
+		return result;
+	}
+
+	public long sum() {
+		return sum.sum();
+	}
+
+	public long max() {
+		return max.get();
+	}
+
+	public void reset() {
+		for (LongAdder count : counts) {
+			count.reset();
+		}
+		sum.reset();
+		max.reset();
+	}
+
+	/**
+	 * Returns the bucket of a value.
+	 */
+	static int bucketOf(long value) {
+		if (value < (1L << SUB_BITS)) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BITS)) & ((1 << SUB_BITS) - 1);
+		return ((exponent - SUB_BITS + 1) << SUB_BITS) | sub;
+	}
+
+	/**
+	 * Returns the largest value held by a bucket.
+	 *
+	 * @param bucket the bucket index.
+	 * @return the inclusive upper bound, in nanoseconds.
+	 */
+	public static long upperBound(int bucket) {
+		if (bucket < (1 << SUB_BITS)) {
+			return bucket;
+		}
+		int exponent = (bucket >>> SUB_BITS) + SUB_BITS - 1;
+		long sub = bucket & ((1 << SUB_BITS) - 1);
+		long lower = (1L << exponent) | (sub << (exponent - SUB_BITS));
+		long upper = lower + (1L << (exponent - SUB_BITS)) - 1;
+		return upper < 0 ? Long.MAX_VALUE : upper;
+	}
+}
@@ -0,0 +1,26 @@
+package org.norsh.model.metrics;
+
+/**
+ * Stages of request processing measured by {@link ValidationMetrics}.
+ *
+ * <h2>Stages:</h2>
+ * <ul>
+ *   <li>{@link #SYNTAX} - field rules of the DTO.</li>
+ *   <li>{@link #HASH} - canonical hash computation.</li>
+ *   <li>{@link #KEY_DECODE} - public key decoding.</li>
+ *   <li>{@link #SIGNATURE} - ECDSA signature verification.</li>
+ *   <li>{@link #DISPATCH} - execution of the {@code @Processable} handler.</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see ValidationMetrics
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public enum MetricStage {
+	SYNTAX,
+	HASH,
+	KEY_DECODE,
+	SIGNATURE,
+	DISPATCH;
+}
@@ -0,0 +1,23 @@
+package org.norsh.model.metrics;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link MetricsSnapshot} in a monitoring format.
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see TextMetricsExporter
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@FunctionalInterface
+public interface MetricsExporter {
+	/**
+	 * Writes the snapshot.
+	 *
+	 * @param snapshot the snapshot.
+	 * @param out      the target.
+	 * @throws IOException if writing fails.
+	 */
+	void export(MetricsSnapshot snapshot, Appendable out) throws IOException;
+}
@@ -0,0 +1,70 @@
+package org.norsh.model.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Point-in-time copy of {@link ValidationMetrics}, passed to a {@link MetricsExporter}.
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see ValidationMetrics#snapshot()
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Getter
+@AllArgsConstructor
+public class MetricsSnapshot {
+	/** Time of the snapshot, in milliseconds since the epoch. */
+	private final long timestamp;
+
+	private final List<Entry> entries;
+
+	/**
+	 * Metrics of one DTO type and stage.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Entry {
+		private final String type;
+		private final MetricStage stage;
+		private final long count;
+		private final long errors;
+		private final Map<String, Long> errorsByRule;
+
+		/** Bucket counts of the latency histogram, see {@link LatencyHistogram#upperBound(int)}. */
+		private final long[] latencyBuckets;
+
+		private final long latencySum;
+		private final long latencyMax;
+
+		/**
+		 * Estimates a latency percentile from the histogram.
+		 *
+		 * @param quantile the quantile, between 0 and 1.
+		 * @return the upper bound of the bucket holding the quantile, in nanoseconds.
+		 */
+		public long percentile(double quantile) {
+			long total = 0;
+			for (long bucket : latencyBuckets) {
+				total += bucket;
+			}
+
+			long rank = (long) Math.ceil(quantile * total);
+			long seen = 0;
+			for (int i = 0; i < latencyBuckets.length; i++) {
+				seen += latencyBuckets[i];
+				if (seen >= rank && seen > 0) {
+					return Math.min(LatencyHistogram.upperBound(i), latencyMax);
+				}
+			}
+			return 0;
+		}
+
+		public long meanLatency() {
+			return count == 0 ? 0 : latencySum / count;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package org.norsh.model.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram of one stage for one DTO type.
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see ValidationMetrics
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class StageMetrics {
+	private final LongAdder count = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final Map<String, LongAdder> errorsByRule = new ConcurrentHashMap<>();
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	StageMetrics() {
+	}
+
+	/**
+	 * Records a successful execution.
+	 *
+	 * @param nanos the duration in nanoseconds.
+	 */
+	public void success(long nanos) {
+		count.increment();
+		latency.record(nanos);
+	}
+
+	/**
+	 * Records a failed execution.
+	 *
+	 * @param nanos the duration in nanoseconds.
+	 * @param rule  the violated rule, or {@code null} if unknown.
+	 */
+	public void failure(long nanos, String rule) {
+		count.increment();
+		errors.increment();
+		latency.record(nanos);
+		if (rule != null) {
+			errorsByRule.computeIfAbsent(rule, key -> new LongAdder()).increment();
+		}
+	}
+
+	public long count() {
+		return count.sum();
+	}
+
+	public long errors() {
+		return errors.sum();
+	}
+
+	public LatencyHistogram latency() {
+		return latency;
+	}
+
+	/**
+	 * Copies the error counts of each rule.
+	 *
+	 * @return the counts, sorted by rule.
+	 */
+	public Map<String, Long> errorsByRule() {
+		Map<String, Long> result = new TreeMap<>();
+		errorsByRule.forEach((rule, adder) -> result.put(rule, adder.sum()));
+		return result;
+	}
+
+	void reset() {
+		count.reset();
+		errors.reset();
+		errorsByRule.clear();
+		latency.reset();
+	}
+}
@@ -0,0 +1,67 @@
+package org.norsh.model.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Exports metrics in the Prometheus text exposition format.
+ *
+ * <h2>Series:</h2>
+ * <ul>
+ *   <li>{@code norsh_requests_total{type,stage}} - executions.</li>
+ *   <li>{@code norsh_request_errors_total{type,stage,rule}} - failures per violated rule.</li>
+ *   <li>{@code norsh_request_latency_seconds{type,stage}} - latency histogram, with cumulative {@code le} buckets.</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see MetricsExporter
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class TextMetricsExporter implements MetricsExporter {
+	@Override
+	public void export(MetricsSnapshot snapshot, Appendable out) throws IOException {
+		out.append("# TYPE norsh_requests_total counter\n");
+		for (MetricsSnapshot.Entry entry : snapshot.getEntries()) {
+			out.append("norsh_requests_total").append(labels(entry)).append("} ").append(Long.toString(entry.getCount())).append('\n');
+		}
+
+		out.append("# TYPE norsh_request_errors_total counter\n");
+		for (MetricsSnapshot.Entry entry : snapshot.getEntries()) {
+			for (Map.Entry<String, Long> rule : entry.getErrorsByRule().entrySet()) {
+				out.append("norsh_request_errors_total").append(labels(entry)).append(",rule=\"").append(escape(rule.getKey())).append("\"} ")
+						.append(Long.toString(rule.getValue())).append('\n');
+			}
+		}
+
+		out.append("# TYPE norsh_request_latency_seconds histogram\n");
+		for (MetricsSnapshot.Entry entry : snapshot.getEntries()) {
+			String labels = labels(entry);
+			long[] buckets = entry.getLatencyBuckets();
+			long cumulative = 0;
+			for (int i = 0; i < buckets.length; i++) {
+				if (buckets[i] == 0) {
+					continue;
+				}
+				cumulative += buckets[i];
+				out.append("norsh_request_latency_seconds_bucket").append(labels).append(",le=\"").append(seconds(LatencyHistogram.upperBound(i)))
+						.append("\"} ").append(Long.toString(cumulative)).append('\n');
+			}
+			out.append("norsh_request_latency_seconds_bucket").append(labels).append(",le=\"+Inf\"} ").append(Long.toString(cumulative)).append('\n');
+			out.append("norsh_request_latency_seconds_sum").append(labels).append("} ").append(seconds(entry.getLatencySum())).append('\n');
+			out.append("norsh_request_latency_seconds_count").append(labels).append("} ").append(Long.toString(cumulative)).append('\n');
+		}
+	}
+
+	private static String labels(MetricsSnapshot.Entry entry) {
+		return "{type=\"" + escape(entry.getType()) + "\",stage=\"" + entry.getStage().name().toLowerCase() + "\"";
+	}
+
+	private static String seconds(long nanos) {
+		return Double.toString(nanos / 1e9);
+	}
+
+	private static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+}
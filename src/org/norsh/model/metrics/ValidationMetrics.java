@@ -0,0 +1,111 @@
+package org.norsh.model.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.norsh.model.transport.TypeRegistry;
+
+/**
+ * Counts, errors per validation rule and latency histograms for each DTO type and {@link MetricStage}.
+ * <p>
+ * Metrics are preallocated in a table indexed by {@link TypeRegistry} id and stage, so recording is an array lookup
+ * followed by striped, lock-free increments. Types outside the registry share the {@link #OTHER} row.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * long start = System.nanoTime();
+ * String violation = TransactionCreateDtoValidator.firstViolation(dto);
+ * metrics.record(TransactionCreateDto.class, MetricStage.SYNTAX, System.nanoTime() - start, violation);
+ * ...
+ * new TextMetricsExporter().export(metrics.snapshot(), writer);
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see MetricsExporter
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class ValidationMetrics {
+	/** Name reported for types that are not in {@link TypeRegistry}. */
+	public static final String OTHER = "other";
+
+	private static final MetricStage[] STAGES = MetricStage.values();
+
+	private final StageMetrics[][] table = new StageMetrics[TypeRegistry.size() + 1][STAGES.length];
+
+	public ValidationMetrics() {
+		for (StageMetrics[] row : table) {
+			for (int i = 0; i < row.length; i++) {
+				row[i] = new StageMetrics();
+			}
+		}
+	}
+
+	/**
+	 * Returns the metrics of a DTO type and stage.
+	 *
+	 * @param type  the DTO type.
+	 * @param stage the stage.
+	 * @return the metrics, shared by every caller.
+	 */
+	public StageMetrics of(Class<?> type, MetricStage stage) {
+		return table[TypeRegistry.idOf(type)][stage.ordinal()];
+	}
+
+	/**
+	 * Records one execution of a stage.
+	 *
+	 * @param type      the DTO type.
+	 * @param stage     the stage.
+	 * @param nanos     the duration in nanoseconds.
+	 * @param violation the error message, or {@code null} on success; the rule is the text before the first colon
+	 *                  (e.g. {@code "Invalid to"}).
+	 */
+	public void record(Class<?> type, MetricStage stage, long nanos, String violation) {
+		StageMetrics metrics = of(type, stage);
+		if (violation == null) {
+			metrics.success(nanos);
+		} else {
+			metrics.failure(nanos, ruleOf(violation));
+		}
+	}
+
+	/**
+	 * Copies the current values of every type and stage that recorded at least one execution.
+	 *
+	 * @return the snapshot.
+	 */
+	public MetricsSnapshot snapshot() {
+		List<MetricsSnapshot.Entry> entries = new ArrayList<>();
+		for (int id = 0; id < table.length; id++) {
+			Class<?> type = TypeRegistry.typeOf(id);
+			String name = type == null ? OTHER : type.getSimpleName();
+			for (MetricStage stage : STAGES) {
+				StageMetrics metrics = table[id][stage.ordinal()];
+				long count = metrics.count();
+				if (count > 0) {
+					LatencyHistogram latency = metrics.latency();
+					entries.add(new MetricsSnapshot.Entry(name, stage, count, metrics.errors(), metrics.errorsByRule(), latency.counts(), latency.sum(), latency.max()));
+				}
+			}
+		}
+		return new MetricsSnapshot(System.currentTimeMillis(), entries);
+	}
+
+	public void reset() {
+		for (StageMetrics[] row : table) {
+			for (StageMetrics metrics : row) {
+				metrics.reset();
+			}
+		}
+	}
+
+	/**
+	 * Extracts the rule of a violation message, the text before its first colon.
+	 */
+	static String ruleOf(String violation) {
+		int colon = violation.indexOf(':');
+		return colon < 0 ? violation : violation.substring(0, colon);
+	}
+}
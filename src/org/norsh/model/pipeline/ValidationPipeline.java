@@ -0,0 +1,420 @@
+package org.norsh.model.pipeline;
+
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.norsh.exceptions.OperationException;
+import org.norsh.exceptions.OperationStatus;
+import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
+import org.norsh.model.dtos.transactions.PaymentCreateDto;
+import org.norsh.model.dtos.transactions.PaymentCreateDtoValidator;
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.dtos.transactions.TransactionCreateDtoValidator;
+import org.norsh.model.events.SignatureCheckEvent;
+import org.norsh.model.hashing.CanonicalHashable;
+import org.norsh.model.hashing.CanonicalHasher;
+import org.norsh.model.hashing.CompositeHasher;
+import org.norsh.model.metrics.MetricStage;
+import org.norsh.model.metrics.ValidationMetrics;
+import org.norsh.model.security.PublicKeyCache;
+import org.norsh.model.security.SignatureVerifier;
+import org.norsh.model.security.VerifiedRequestCache;
+import org.norsh.model.transport.DataTransfer;
+import org.norsh.model.types.Hash256;
+import org.norsh.rest.RestMethod;
+
+/**
+ * Validates streams of signed requests in parallel stages, emitting results in submission order.
+ *
+ * <h2>Stages:</h2>
+ * <ol>
+ *   <li>{@link Stage#SYNTAX} - field rules of the DTO and the public key format.</li>
+ *   <li>{@link Stage#HASH} - canonical hash of the DTO, always computed locally through {@link CompositeHasher}. A
+ *   {@code hash} received with the request is only compared with it, and the request is rejected on mismatch.</li>
+ *   <li>{@link Stage#KEY_DECODE} - structure of the signature and decoding of the public key, through
+ *   {@link PublicKeyCache#shared()}.</li>
+ *   <li>{@link Stage#SIGNATURE} - ECDSA verification, skipped for requests found in the optional
+ *   {@link VerifiedRequestCache}.</li>
+ * </ol>
+ * <p>
+ * Each stage runs on its own executor: fixed pools sized to the available processors for the CPU-bound stages, and
+ * virtual threads for {@link Stage#KEY_DECODE}, where deployments plug in key stores or caches that may block. A
+ * request that fails a stage skips the following ones. The number of requests in flight is bounded by the pipeline
+ * capacity, which also bounds the queue of every stage; {@link #submit(CryptoSignedAbstractDto)} blocks when it is
+ * reached.
+ * </p>
+ *
+ * <h2>Results:</h2>
+ * <p>
+ * Each request produces a {@link DataTransfer} carrying the DTO: {@link OperationStatus#PROCESSING} when it passed
+ * every stage, or {@link OperationStatus#ERROR} with the reason in {@code message}. The {@code requestId} is the one
+ * of the DTO, or its computed hash when absent, and the {@code method} is the one given to
+ * {@link #submit(CryptoSignedAbstractDto, RestMethod)} or, by default, {@link Builder#method(RestMethod)}.
+ * </p>
+ * <p>
+ * When {@link Builder#metrics(ValidationMetrics)} is set, the duration and outcome of every stage that runs are
+ * recorded per DTO type; skipped stages are not recorded.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * try (ValidationPipeline pipeline = ValidationPipeline.builder().capacity(4096).build()) {
+ *     pipeline.validate(requests.stream(), producer::send);
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see SignatureVerifier
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class ValidationPipeline implements AutoCloseable {
+	/** Stages of the pipeline, in execution order. */
+	public enum Stage {
+		SYNTAX,
+		HASH,
+		KEY_DECODE,
+		SIGNATURE;
+	}
+
+	private final Map<Stage, ExecutorService> executors;
+	private final List<ExecutorService> owned;
+	private final Semaphore capacity;
+	private final VerifiedRequestCache cache;
+	private final ValidationMetrics metrics;
+	private final RestMethod method;
+
+	private ValidationPipeline(Builder builder) {
+		this.executors = new EnumMap<>(Stage.class);
+		this.owned = new ArrayList<>();
+		for (Stage stage : Stage.values()) {
+			ExecutorService executor = builder.executors.get(stage);
+			if (executor == null) {
+				executor = defaultExecutor(stage);
+				owned.add(executor);
+			}
+			executors.put(stage, executor);
+		}
+		this.capacity = new Semaphore(builder.capacity);
+		this.cache = builder.cache;
+		this.metrics = builder.metrics;
+		this.method = builder.method;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Submits a request with the default method of the pipeline, blocking while the pipeline is at capacity.
+	 *
+	 * @param dto the request to validate.
+	 * @return the future result of the request.
+	 * @throws InterruptedException if interrupted while waiting for capacity.
+	 */
+	public CompletableFuture<DataTransfer> submit(CryptoSignedAbstractDto dto) throws InterruptedException {
+		return submit(dto, method);
+	}
+
+	/**
+	 * Submits a request, blocking while the pipeline is at capacity.
+	 *
+	 * @param dto    the request to validate.
+	 * @param method the method the request was received with, carried by the result.
+	 * @return the future result of the request.
+	 * @throws InterruptedException if interrupted while waiting for capacity.
+	 */
+	public CompletableFuture<DataTransfer> submit(CryptoSignedAbstractDto dto, RestMethod method) throws InterruptedException {
+		capacity.acquire();
+		Job job = new Job(dto, method);
+		try {
+			return CompletableFuture.runAsync(() -> timed(job, MetricStage.SYNTAX, this::syntax), executors.get(Stage.SYNTAX))
+					.thenRunAsync(() -> timed(job, MetricStage.HASH, this::hash), executors.get(Stage.HASH))
+					.thenRunAsync(() -> timed(job, MetricStage.KEY_DECODE, this::decodeKey), executors.get(Stage.KEY_DECODE))
+					.thenRunAsync(() -> timed(job, MetricStage.SIGNATURE, this::verify), executors.get(Stage.SIGNATURE))
+					.handle((ignored, ex) -> result(job, ex))
+					.whenComplete((result, ex) -> capacity.release());
+		} catch (RuntimeException ex) {
+			capacity.release();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Validates a stream of requests, passing each result to {@code output} in input order.
+	 * <p>
+	 * Results are emitted as soon as all earlier requests are done, while later requests are still in flight.
+	 * </p>
+	 *
+	 * @param input  the requests to validate.
+	 * @param output receives one result per request, on the calling thread.
+	 * @throws InterruptedException if interrupted while waiting for capacity.
+	 */
+	public void validate(Stream<? extends CryptoSignedAbstractDto> input, Consumer<DataTransfer> output) throws InterruptedException {
+		Deque<CompletableFuture<DataTransfer>> pending = new ArrayDeque<>();
+		Iterator<? extends CryptoSignedAbstractDto> requests = input.iterator();
+		while (requests.hasNext()) {
+			// Emit what is ready before possibly blocking on capacity
+			while (!pending.isEmpty() && pending.peekFirst().isDone()) {
+				output.accept(pending.pollFirst().join());
+			}
+			pending.addLast(submit(requests.next()));
+		}
+		while (!pending.isEmpty()) {
+			output.accept(pending.pollFirst().join());
+		}
+	}
+
+	/**
+	 * Validates a collection of requests.
+	 *
+	 * @param dtos the requests to validate.
+	 * @return one result per request, in iteration order.
+	 * @throws InterruptedException if interrupted while waiting for capacity.
+	 */
+	public List<DataTransfer> validate(Collection<? extends CryptoSignedAbstractDto> dtos) throws InterruptedException {
+		List<DataTransfer> results = new ArrayList<>(dtos.size());
+		validate(dtos.stream(), results::add);
+		return results;
+	}
+
+	/**
+	 * Shuts down the executors created by the pipeline. Executors provided to the builder are left running.
+	 */
+	@Override
+	public void close() {
+		owned.forEach(ExecutorService::shutdown);
+	}
+
+	private void timed(Job job, MetricStage stage, Consumer<Job> step) {
+		if (metrics == null || job.error != null || job.verified) {
+			step.accept(job);
+			return;
+		}
+
+		long start = System.nanoTime();
+		step.accept(job);
+		metrics.record(job.dto.getClass(), stage, System.nanoTime() - start, job.error);
+	}
+
+	private void syntax(Job job) {
+		CryptoSignedAbstractDto dto = job.dto;
+		if (dto instanceof TransactionCreateDto transaction) {
+			job.error = TransactionCreateDtoValidator.firstViolation(transaction);
+		} else if (dto instanceof PaymentCreateDto payment) {
+			job.error = PaymentCreateDtoValidator.firstViolation(payment);
+		} else {
+			// Other DTOs keep their own rules, which also compute the hash
+			try {
+				dto.validate();
+			} catch (OperationException ex) {
+				job.error = ex.getMessage();
+			}
+			return;
+		}
+
+		if (job.error == null) {
+			try {
+				dto.validatePublicKey();
+			} catch (OperationException ex) {
+				job.error = ex.getMessage();
+			}
+		}
+	}
+
+	private void hash(Job job) {
+		if (job.error != null) {
+			return;
+		}
+		if (!(job.dto instanceof CanonicalHashable hashable)) {
+			job.error = "Invalid hash: " + job.dto.getClass().getSimpleName() + " has no canonical hash.";
+			return;
+		}
+
+		// The received hash is only a claim of the sender; the signature is checked against the local one
+		String claimed = job.dto.getHash();
+		byte[] digest = CompositeHasher.partDigest(hashable);
+		if (claimed != null && !(Hash256.isValid(claimed) && Hash256.fromHex(claimed).equals(Hash256.fromBytes(digest)))) {
+			job.error = "Invalid hash: The provided 'hash' does not match the hash computed from the request fields.";
+			return;
+		}
+		job.dto.setDigest(digest);
+	}
+
+	private void decodeKey(Job job) {
+		if (job.error != null) {
+			return;
+		} else if (cache != null && cache.contains(job.dto)) {
+			job.verified = true;
+			return;
+		}
+
+		job.error = SignatureVerifier.checkStructure(job.dto);
+		if (job.error == null) {
+			try {
+				job.publicKey = PublicKeyCache.shared().get(job.dto.getPublicKey()).getKey();
+			} catch (GeneralSecurityException | IllegalArgumentException ex) {
+				job.error = "Invalid public key: The 'publicKey' field must be in PEM, Base64, or Hexadecimal format.";
+			}
+		}
+	}
+
+	private void verify(Job job) {
+		if (job.error != null || job.verified) {
+			return;
+		}
+
+		SignatureCheckEvent event = new SignatureCheckEvent();
+		event.begin();
+		boolean valid = SignatureVerifier.verify(job.publicKey, CanonicalHasher.fromHex(job.dto.getSignature()), job.dto.getHash());
+		event.end(SignatureCheckEvent.SIGNATURE, job.dto, valid);
+		if (!valid) {
+			job.error = "Invalid signature: The provided signature does not match the computed hash from the given public key.";
+		} else if (cache != null) {
+			cache.put(job.dto);
+		}
+	}
+
+	private static DataTransfer result(Job job, Throwable ex) {
+		CryptoSignedAbstractDto dto = job.dto;
+		String requestId = dto.getRequestId() != null ? dto.getRequestId() : dto.getHash();
+		DataTransfer transfer = new DataTransfer(requestId, job.method, dto);
+
+		Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+		String error = cause != null ? "Validation failed: " + cause : job.error;
+		if (error != null) {
+			transfer.setStatus(OperationStatus.ERROR);
+			transfer.setMessage(error);
+		}
+		return transfer;
+	}
+
+	private static ExecutorService defaultExecutor(Stage stage) {
+		if (stage == Stage.KEY_DECODE) {
+			return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("norsh-validation-" + stage.name().toLowerCase() + "-", 0).factory());
+		}
+
+		AtomicInteger count = new AtomicInteger();
+		ThreadFactory factory = task -> {
+			Thread thread = new Thread(task, "norsh-validation-" + stage.name().toLowerCase() + "-" + count.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		};
+		return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), factory);
+	}
+
+	/**
+	 * State of one request moving through the stages; each stage runs after the previous one completed.
+	 */
+	private static final class Job {
+		private final CryptoSignedAbstractDto dto;
+		private final RestMethod method;
+		private String error;
+		private PublicKey publicKey;
+		private boolean verified;
+
+		Job(CryptoSignedAbstractDto dto, RestMethod method) {
+			this.dto = dto;
+			this.method = method;
+		}
+	}
+
+	/**
+	 * Configures the executors, the capacity, the verified request cache, the metrics and the default method of a
+	 * pipeline.
+	 */
+	public static final class Builder {
+		private final Map<Stage, ExecutorService> executors = new EnumMap<>(Stage.class);
+		private int capacity = 1024;
+		private VerifiedRequestCache cache;
+		private ValidationMetrics metrics;
+		private RestMethod method = RestMethod.POST;
+
+		private Builder() {
+		}
+
+		/**
+		 * Runs a stage on the given executor instead of the default one. The executor is not shut down by the pipeline.
+		 *
+		 * @param stage    the stage.
+		 * @param executor the executor.
+		 * @return this builder.
+		 */
+		public Builder executor(Stage stage, ExecutorService executor) {
+			executors.put(stage, executor);
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of requests in flight.
+		 *
+		 * @param capacity the capacity, greater than zero.
+		 * @return this builder.
+		 */
+		public Builder capacity(int capacity) {
+			if (capacity <= 0) {
+				throw new IllegalArgumentException("Invalid capacity: must be greater than zero.");
+			}
+			this.capacity = capacity;
+			return this;
+		}
+
+		/**
+		 * Skips the signature verification of requests already recorded in the cache, and records new valid ones.
+		 *
+		 * @param cache the cache.
+		 * @return this builder.
+		 */
+		public Builder cache(VerifiedRequestCache cache) {
+			this.cache = cache;
+			return this;
+		}
+
+		/**
+		 * Records the latency and outcome of every stage.
+		 *
+		 * @param metrics the metrics.
+		 * @return this builder.
+		 */
+		public Builder metrics(ValidationMetrics metrics) {
+			this.metrics = metrics;
+			return this;
+		}
+
+		/**
+		 * Sets the method carried by the results of requests submitted without one; {@link RestMethod#POST} by
+		 * default.
+		 *
+		 * @param method the method.
+		 * @return this builder.
+		 */
+		public Builder method(RestMethod method) {
+			if (method == null) {
+				throw new IllegalArgumentException("Invalid method: cannot be null.");
+			}
+			this.method = method;
+			return this;
+		}
+
+		public ValidationPipeline build() {
+			return new ValidationPipeline(this);
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package org.norsh.model.registry;
+
+import org.norsh.exceptions.OperationException;
+import org.norsh.model.dtos.elements.ElementCreateDto;
+import org.norsh.model.dtos.elements.ElementMetadataDto;
+import org.norsh.model.dtos.elements.ElementPolicyDto;
+import org.norsh.model.types.ElementType;
+import org.norsh.model.types.Hash256;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.With;
+
+/**
+ * Immutable view of a Smart Element held by the {@link ElementRegistry}.
+ * <p>
+ * Updates create a new record with the {@code with*} methods; a record obtained from the registry never changes.
+ * Policy and metadata are copied out of their request DTOs into {@link Policy} and {@link Metadata}, so later changes
+ * to those DTOs do not reach the record.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see ElementRegistry
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Getter
+@With
+@AllArgsConstructor
+public final class ElementRecord {
+	/** Element id, the hash of its creation request. */
+	private final Hash256 id;
+
+	private final String symbol;
+
+	private final ElementType type;
+
+	private final int decimals;
+
+	/** Latest policy, or {@code null} if none was set. */
+	private final Policy policy;
+
+	/** Latest metadata, or {@code null} if none was set. */
+	private final Metadata metadata;
+
+	/**
+	 * Creates the record of a new element from its validated creation request.
+	 *
+	 * @param dto the creation request, with its hash computed.
+	 * @return the record, without policy nor metadata.
+	 * @throws OperationException if the request has no {@code decimals}.
+	 */
+	public static ElementRecord of(ElementCreateDto dto) throws OperationException {
+		if (dto.getDecimals() == null) {
+			throw new OperationException("Invalid decimals: The 'decimals' field is required.");
+		}
+		return new ElementRecord(dto.getHash256(), dto.getSymbol(), dto.getType(), dto.getDecimals(), null, null);
+	}
+
+	/**
+	 * Policy fields of an element, copied from its latest {@link ElementPolicyDto}.
+	 */
+	public record Policy(Double transactionTax, Integer freezeDuration, String script) {
+		public static Policy of(ElementPolicyDto dto) {
+			return dto == null ? null : new Policy(dto.getTransactionTax(), dto.getFreezeDuration(), dto.getScript());
+		}
+	}
+
+	/**
+	 * Metadata fields of an element, copied from its latest {@link ElementMetadataDto}.
+	 */
+	public record Metadata(String name, String logo, String about, String site, String policy) {
+		public static Metadata of(ElementMetadataDto dto) {
+			return dto == null ? null : new Metadata(dto.getName(), dto.getLogo(), dto.getAbout(), dto.getSite(), dto.getPolicy());
+		}
+	}
+}
@@ -0,0 +1,198 @@
+package org.norsh.model.registry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.norsh.exceptions.OperationException;
+import org.norsh.model.dtos.elements.ElementMetadataDto;
+import org.norsh.model.dtos.elements.ElementPolicyDto;
+import org.norsh.model.types.Hash256;
+
+/**
+ * In-memory registry of Smart Elements, indexed by id and by symbol.
+ * <p>
+ * The registry is copy-on-write: every update builds new indexes and publishes them with a single volatile write, so
+ * lookups never lock and always see a consistent snapshot of both indexes. Updates are serialized and cost a copy of
+ * the indexes, which suits elements, read on every transaction but rarely created or changed.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * ElementRecord element = registry.get(transaction.getElementHash256());
+ * Amount volume = transaction.toVolumeAmount(element.getDecimals());
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see ElementRecord
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class ElementRegistry {
+	private volatile Snapshot snapshot = new Snapshot(new HashMap<>(), new TreeMap<>(), 0);
+
+	/**
+	 * Returns the element with the given id.
+	 *
+	 * @param id the element id.
+	 * @return the element, or {@code null} if it is not registered.
+	 */
+	public ElementRecord get(Hash256 id) {
+		return id == null ? null : snapshot.byId.get(id);
+	}
+
+	/**
+	 * Returns the element with the given symbol.
+	 *
+	 * @param symbol the symbol, including the proxy suffix for proxy elements.
+	 * @return the element, or {@code null} if the symbol is not registered.
+	 */
+	public ElementRecord getBySymbol(String symbol) {
+		return symbol == null ? null : snapshot.bySymbol.get(symbol);
+	}
+
+	public boolean containsSymbol(String symbol) {
+		return getBySymbol(symbol) != null;
+	}
+
+	/**
+	 * Returns the elements whose symbol starts with the given prefix, in symbol order.
+	 *
+	 * @param prefix the symbol prefix; an empty prefix matches every element.
+	 * @param limit  the maximum number of elements returned.
+	 * @return the matching elements.
+	 */
+	public List<ElementRecord> searchBySymbol(String prefix, int limit) {
+		NavigableMap<String, ElementRecord> bySymbol = snapshot.bySymbol;
+		NavigableMap<String, ElementRecord> matches = prefix.isEmpty() ? bySymbol : bySymbol.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+
+		List<ElementRecord> result = new ArrayList<>(Math.min(limit, matches.size()));
+		for (ElementRecord element : matches.values()) {
+			if (result.size() == limit) {
+				break;
+			}
+			result.add(element);
+		}
+		return result;
+	}
+
+	public int size() {
+		return snapshot.byId.size();
+	}
+
+	/**
+	 * Returns the number of updates applied to the registry, which changes with every published snapshot.
+	 *
+	 * @return the version.
+	 */
+	public long version() {
+		return snapshot.version;
+	}
+
+	/**
+	 * Registers a new element.
+	 *
+	 * @param element the element.
+	 * @throws OperationException if the id or the symbol is already registered.
+	 */
+	public synchronized void register(ElementRecord element) throws OperationException {
+		Snapshot current = snapshot;
+		if (element.getId() == null || element.getSymbol() == null) {
+			throw new OperationException("Invalid element: The 'id' and 'symbol' fields are required.");
+		} else if (current.byId.containsKey(element.getId())) {
+			throw new OperationException("Invalid element: The element is already registered.");
+		} else if (current.bySymbol.containsKey(element.getSymbol())) {
+			throw new OperationException(String.format("Invalid symbol: The symbol '%s' is already in use.", element.getSymbol()));
+		}
+		publish(current, null, element);
+	}
+
+	/**
+	 * Replaces the policy of an element.
+	 *
+	 * @param id     the element id.
+	 * @param policy the latest policy, copied into the record.
+	 * @throws OperationException if the element is not registered.
+	 */
+	public synchronized void updatePolicy(Hash256 id, ElementPolicyDto policy) throws OperationException {
+		ElementRecord element = require(id);
+		publish(snapshot, element, element.withPolicy(ElementRecord.Policy.of(policy)));
+	}
+
+	/**
+	 * Replaces the metadata of an element.
+	 *
+	 * @param id       the element id.
+	 * @param metadata the latest metadata, copied into the record.
+	 * @throws OperationException if the element is not registered.
+	 */
+	public synchronized void updateMetadata(Hash256 id, ElementMetadataDto metadata) throws OperationException {
+		ElementRecord element = require(id);
+		publish(snapshot, element, element.withMetadata(ElementRecord.Metadata.of(metadata)));
+	}
+
+	/**
+	 * Removes an element.
+	 *
+	 * @param id the element id.
+	 * @return the removed element, or {@code null} if it was not registered.
+	 */
+	public synchronized ElementRecord remove(Hash256 id) {
+		ElementRecord element = get(id);
+		if (element != null) {
+			publish(snapshot, element, null);
+		}
+		return element;
+	}
+
+	/**
+	 * Replaces the whole content of the registry, e.g. when loading it from the database.
+	 *
+	 * @param elements the elements.
+	 * @throws OperationException if two elements share an id or a symbol.
+	 */
+	public synchronized void load(Iterable<ElementRecord> elements) throws OperationException {
+		Map<Hash256, ElementRecord> byId = new HashMap<>();
+		NavigableMap<String, ElementRecord> bySymbol = new TreeMap<>();
+		for (ElementRecord element : elements) {
+			if (byId.putIfAbsent(element.getId(), element) != null || bySymbol.putIfAbsent(element.getSymbol(), element) != null) {
+				throw new OperationException(String.format("Invalid element: The id or symbol '%s' is duplicated.", element.getSymbol()));
+			}
+		}
+		snapshot = new Snapshot(byId, bySymbol, snapshot.version + 1);
+	}
+
+	private ElementRecord require(Hash256 id) throws OperationException {
+		ElementRecord element = get(id);
+		if (element == null) {
+			throw new OperationException("Element not found: The element is not registered.");
+		}
+		return element;
+	}
+
+	/**
+	 * Publishes a copy of the indexes with {@code previous} replaced by {@code next}; either may be {@code null}.
+	 */
+	private void publish(Snapshot current, ElementRecord previous, ElementRecord next) {
+		Map<Hash256, ElementRecord> byId = new HashMap<>(current.byId);
+		NavigableMap<String, ElementRecord> bySymbol = new TreeMap<>(current.bySymbol);
+		if (previous != null) {
+			byId.remove(previous.getId());
+			bySymbol.remove(previous.getSymbol());
+		}
+		if (next != null) {
+			byId.put(next.getId(), next);
+			bySymbol.put(next.getSymbol(), next);
+		}
+		snapshot = new Snapshot(byId, bySymbol, current.version + 1);
+	}
+
+	/**
+	 * Indexes published together; never modified once published.
+	 */
+	private record Snapshot(Map<Hash256, ElementRecord> byId, NavigableMap<String, ElementRecord> bySymbol, long version) {
+	}
+}
@@ -0,0 +1,115 @@
+package org.norsh.model.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
+
+/**
+ * Parallel signature verification for batches of {@link CryptoSignedAbstractDto}.
+ * <p>
+ * All items are first checked structurally on the calling thread with
+ * {@link SignatureVerifier#checkStructure(CryptoSignedAbstractDto)}; malformed items are reported immediately and
+ * never reach the pool. The remaining items are split over a {@link ForkJoinPool}, where ECDSA verification runs in
+ * parallel.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+ * for (SignatureResult result : verifier.verify(batch)) {
+ *     if (!result.isValid()) {
+ *         reject(result.getDto(), result.getMessage());
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see SignatureVerifier
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class BatchSignatureVerifier {
+	/** Number of verifications below which a task is no longer split. */
+	private static final int THRESHOLD = 8;
+
+	private final ForkJoinPool pool;
+
+	/**
+	 * Creates a verifier running on the common fork-join pool.
+	 */
+	public BatchSignatureVerifier() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a verifier running on the given pool.
+	 *
+	 * @param pool the pool executing the ECDSA verifications.
+	 */
+	public BatchSignatureVerifier(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Verifies the signatures of all DTOs.
+	 *
+	 * @param dtos the DTOs to verify, with their {@code hash} already computed.
+	 * @return one result per DTO, in iteration order.
+	 */
+	public List<SignatureResult> verify(Collection<? extends CryptoSignedAbstractDto> dtos) {
+		CryptoSignedAbstractDto[] items = dtos.toArray(new CryptoSignedAbstractDto[0]);
+		SignatureResult[] results = new SignatureResult[items.length];
+		int[] pending = new int[items.length];
+		int count = 0;
+
+		for (int i = 0; i < items.length; i++) {
+			String error = SignatureVerifier.checkStructure(items[i]);
+			if (error == null) {
+				pending[count++] = i;
+			} else {
+				results[i] = new SignatureResult(items[i], SignatureStatus.MALFORMED, error);
+			}
+		}
+
+		if (count > 0) {
+			pool.invoke(new VerifyTask(items, results, pending, 0, count));
+		}
+		return new ArrayList<>(Arrays.asList(results));
+	}
+
+	private static class VerifyTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final CryptoSignedAbstractDto[] items;
+		private final SignatureResult[] results;
+		private final int[] indexes;
+		private final int from;
+		private final int to;
+
+		VerifyTask(CryptoSignedAbstractDto[] items, SignatureResult[] results, int[] indexes, int from, int to) {
+			this.items = items;
+			this.results = results;
+			this.indexes = indexes;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= THRESHOLD) {
+				for (int i = from; i < to; i++) {
+					int index = indexes[i];
+					results[index] = SignatureVerifier.verifyStructured(items[index]);
+				}
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new VerifyTask(items, results, indexes, from, middle), new VerifyTask(items, results, indexes, middle, to));
+			}
+		}
+	}
+}
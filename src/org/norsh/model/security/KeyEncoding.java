@@ -0,0 +1,22 @@
+package org.norsh.model.security;
+
+/**
+ * Text encoding of an X.509 public key, as accepted in the {@code publicKey} field of signed requests.
+ *
+ * <h2>Encodings:</h2>
+ * <ul>
+ *   <li>{@link #PEM} - Base64 between {@code -----BEGIN PUBLIC KEY-----} and {@code -----END PUBLIC KEY-----}.</li>
+ *   <li>{@link #HEX} - Hexadecimal, in either case.</li>
+ *   <li>{@link #BASE64} - Plain Base64.</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see PublicKeyCache
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public enum KeyEncoding {
+	PEM,
+	HEX,
+	BASE64;
+}
@@ -0,0 +1,26 @@
+package org.norsh.model.security;
+
+/**
+ * Outcome of a nonce check.
+ *
+ * <h2>Statuses:</h2>
+ * <ul>
+ *   <li>{@link #ACCEPTED} - The nonce was not used before and is now recorded.</li>
+ *   <li>{@link #REPLAYED} - The nonce was already used by the sender.</li>
+ *   <li>{@link #TOO_OLD} - The nonce is below the sender window and can no longer be checked.</li>
+ *   <li>{@link #TOO_FAR_AHEAD} - The nonce skips more values than the tracker allows.</li>
+ *   <li>{@link #INVALID} - The nonce is missing or negative.</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see NonceTracker
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public enum NonceStatus {
+	ACCEPTED,
+	REPLAYED,
+	TOO_OLD,
+	TOO_FAR_AHEAD,
+	INVALID;
+}
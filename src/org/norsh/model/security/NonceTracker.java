@@ -0,0 +1,346 @@
+package org.norsh.model.security;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory replay protection based on a sliding window of nonces per sender.
+ * <p>
+ * Each sender (its public key or derived address) owns a window of {@code windowSize} bits anchored at the highest
+ * nonce seen: bit {@code i} records whether {@code highest - i} was used. Nonces may arrive out of order within the
+ * window; anything below it is rejected as {@link NonceStatus#TOO_OLD}. Memory per sender is constant
+ * ({@code windowSize / 8} bytes plus the key), whatever the number of transactions.
+ * </p>
+ * <p>
+ * Senders are held in a {@link ConcurrentHashMap} and each window is guarded by its own monitor, so checks for
+ * different senders never contend.
+ * </p>
+ *
+ * <h2>Idle Eviction:</h2>
+ * <p>
+ * With an {@code idleTimeout}, the window of a sender that sent nothing for that long is dropped, at most once per
+ * timeout by a sweep run from {@link #check(String, Long)}, so memory is bounded by the senders active within about
+ * two timeouts. An evicted sender starts over with an empty window: callers must reject nonces at or below the last
+ * nonce persisted for the sender (for instance by the ledger) whenever {@link #highest(String)} returns {@code -1}.
+ * </p>
+ *
+ * <h2>Snapshots:</h2>
+ * <p>
+ * {@link #snapshot(DataOutput)} writes every window, and {@link #restore(DataInput)} loads them back after a restart.
+ * Each window is copied atomically, but checks running during a snapshot may or may not be included.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * NonceTracker nonces = new NonceTracker(256, 1_000, Duration.ofHours(1));
+ * if (nonces.check(dto.getPublicKey(), dto.getNonce()) != NonceStatus.ACCEPTED) {
+ *     throw new OperationException("Invalid nonce: The 'nonce' was already used or is out of range.");
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see NonceStatus
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class NonceTracker {
+	private static final int SNAPSHOT_VERSION = 1;
+
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+	private final int windowSize;
+	private final long maxAdvance;
+	private final long idleNanos;
+	private final LongSupplier clock;
+	private final AtomicLong nextSweep;
+
+	/**
+	 * Creates a tracker that never evicts senders.
+	 *
+	 * @param windowSize the number of nonces tracked below the highest one, a positive multiple of 64.
+	 * @param maxAdvance the largest accepted jump above the highest nonce, or {@code 0} for no limit.
+	 */
+	public NonceTracker(int windowSize, long maxAdvance) {
+		this(windowSize, maxAdvance, Duration.ZERO, System::nanoTime);
+	}
+
+	/**
+	 * Creates a tracker that evicts senders idle for longer than {@code idleTimeout}.
+	 *
+	 * @param windowSize  the number of nonces tracked below the highest one, a positive multiple of 64.
+	 * @param maxAdvance  the largest accepted jump above the highest nonce, or {@code 0} for no limit.
+	 * @param idleTimeout how long a sender may stay idle before its window is dropped, or zero to never drop it.
+	 */
+	public NonceTracker(int windowSize, long maxAdvance, Duration idleTimeout) {
+		this(windowSize, maxAdvance, idleTimeout, System::nanoTime);
+	}
+
+	NonceTracker(int windowSize, long maxAdvance, Duration idleTimeout, LongSupplier clock) {
+		if (windowSize <= 0 || (windowSize & 63) != 0) {
+			throw new IllegalArgumentException("Invalid window size: must be a positive multiple of 64.");
+		} else if (maxAdvance < 0) {
+			throw new IllegalArgumentException("Invalid max advance: cannot be negative.");
+		} else if (idleTimeout.isNegative()) {
+			throw new IllegalArgumentException("Invalid idle timeout: cannot be negative.");
+		}
+		this.windowSize = windowSize;
+		this.maxAdvance = maxAdvance;
+		this.idleNanos = idleTimeout.toNanos();
+		this.clock = clock;
+		this.nextSweep = new AtomicLong(clock.getAsLong() + idleNanos);
+	}
+
+	/**
+	 * Checks a nonce and records it if it was not used before.
+	 *
+	 * @param sender the sender public key or address.
+	 * @param nonce  the nonce of the request.
+	 * @return {@link NonceStatus#ACCEPTED} if the request may proceed.
+	 */
+	public NonceStatus check(String sender, Long nonce) {
+		if (sender == null || nonce == null || nonce < 0) {
+			return NonceStatus.INVALID;
+		}
+
+		long now = clock.getAsLong();
+		if (idleNanos > 0) {
+			long sweep = nextSweep.get();
+			if (now - sweep >= 0 && nextSweep.compareAndSet(sweep, now + idleNanos)) {
+				evictIdle(now);
+			}
+		}
+
+		while (true) {
+			Window window = windows.computeIfAbsent(sender, key -> new Window(windowSize >>> 6));
+			synchronized (window) {
+				// Lost a race with the sweep: record the nonce in the replacing window instead
+				if (!window.evicted) {
+					window.lastSeen = now;
+					return window.check(nonce, windowSize, maxAdvance);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks whether a nonce was already used, without recording it.
+	 *
+	 * @param sender the sender public key or address.
+	 * @param nonce  the nonce.
+	 * @return {@code true} if the nonce is recorded, or is below the window and therefore considered used.
+	 */
+	public boolean isUsed(String sender, long nonce) {
+		Window window = windows.get(sender);
+		if (window == null) {
+			return false;
+		}
+		synchronized (window) {
+			long offset = window.highest - nonce;
+			return offset >= windowSize || (offset >= 0 && window.get((int) offset));
+		}
+	}
+
+	/**
+	 * Returns the nonces skipped by the sender that are still inside the window, in ascending order.
+	 *
+	 * @param sender the sender public key or address.
+	 * @return the missing nonces, empty if there is no gap.
+	 */
+	public long[] gaps(String sender) {
+		Window window = windows.get(sender);
+		if (window == null) {
+			return new long[0];
+		}
+
+		synchronized (window) {
+			int span = (int) Math.min(windowSize, window.highest + 1);
+			long[] gaps = new long[span];
+			int count = 0;
+			for (int offset = span - 1; offset > 0; offset--) {
+				if (!window.get(offset)) {
+					gaps[count++] = window.highest - offset;
+				}
+			}
+			return Arrays.copyOf(gaps, count);
+		}
+	}
+
+	/**
+	 * Returns the highest nonce accepted for the sender.
+	 *
+	 * @param sender the sender public key or address.
+	 * @return the highest nonce, or {@code -1} if the sender is unknown.
+	 */
+	public long highest(String sender) {
+		Window window = windows.get(sender);
+		if (window == null) {
+			return -1;
+		}
+		synchronized (window) {
+			return window.highest;
+		}
+	}
+
+	public int size() {
+		return windows.size();
+	}
+
+	public void remove(String sender) {
+		Window window = windows.remove(sender);
+		if (window != null) {
+			synchronized (window) {
+				window.evicted = true;
+			}
+		}
+	}
+
+	/**
+	 * Drops the windows of the senders idle for at least the idle timeout.
+	 */
+	private void evictIdle(long now) {
+		for (Map.Entry<String, Window> entry : windows.entrySet()) {
+			Window window = entry.getValue();
+			synchronized (window) {
+				if (now - window.lastSeen >= idleNanos && windows.remove(entry.getKey(), window)) {
+					window.evicted = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the state of every sender.
+	 *
+	 * @param out the target.
+	 * @throws IOException if writing fails.
+	 */
+	public void snapshot(DataOutput out) throws IOException {
+		out.writeInt(SNAPSHOT_VERSION);
+		out.writeInt(windowSize);
+		for (Map.Entry<String, Window> entry : windows.entrySet()) {
+			long highest;
+			long[] bits;
+			synchronized (entry.getValue()) {
+				highest = entry.getValue().highest;
+				bits = entry.getValue().bits.clone();
+			}
+
+			out.writeBoolean(true);
+			out.writeUTF(entry.getKey());
+			out.writeLong(highest);
+			for (long word : bits) {
+				out.writeLong(word);
+			}
+		}
+		out.writeBoolean(false);
+	}
+
+	/**
+	 * Replaces the state of the senders found in a snapshot.
+	 * <p>
+	 * A snapshot taken with a different window size is adapted: a larger window keeps only the newest bits, and a
+	 * smaller one treats the nonces it did not track as used.
+	 * </p>
+	 *
+	 * @param in the source, as written by {@link #snapshot(DataOutput)}.
+	 * @throws IOException if reading fails or the snapshot version is unknown.
+	 */
+	public void restore(DataInput in) throws IOException {
+		int version = in.readInt();
+		if (version != SNAPSHOT_VERSION) {
+			throw new IOException("Unsupported nonce snapshot version: " + version);
+		}
+
+		int words = in.readInt() >>> 6;
+		int ownWords = windowSize >>> 6;
+		long now = clock.getAsLong();
+		while (in.readBoolean()) {
+			String sender = in.readUTF();
+			Window window = new Window(ownWords);
+			window.lastSeen = now;
+			window.highest = in.readLong();
+			for (int i = 0; i < words; i++) {
+				long word = in.readLong();
+				if (i < ownWords) {
+					window.bits[i] = word;
+				}
+			}
+			// Nonces the snapshot could not track are considered used
+			for (int i = words; i < ownWords; i++) {
+				window.bits[i] = -1L;
+			}
+			Window previous = windows.put(sender, window);
+			if (previous != null) {
+				synchronized (previous) {
+					previous.evicted = true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Nonces of one sender: bit {@code i} of {@link #bits} is set when {@code highest - i} was used.
+	 */
+	private static final class Window {
+		private final long[] bits;
+		private long highest = -1;
+		private long lastSeen;
+		/** Set once the window left the map; checks then retry with a new window. */
+		private boolean evicted;
+
+		Window(int words) {
+			this.bits = new long[words];
+		}
+
+		NonceStatus check(long nonce, int windowSize, long maxAdvance) {
+			if (nonce > highest) {
+				long advance = nonce - highest;
+				if (maxAdvance > 0 && highest >= 0 && advance > maxAdvance) {
+					return NonceStatus.TOO_FAR_AHEAD;
+				}
+				shift(advance, windowSize);
+				highest = nonce;
+				bits[0] |= 1L;
+				return NonceStatus.ACCEPTED;
+			}
+
+			long offset = highest - nonce;
+			if (offset >= windowSize) {
+				return NonceStatus.TOO_OLD;
+			} else if (get((int) offset)) {
+				return NonceStatus.REPLAYED;
+			}
+			bits[(int) offset >>> 6] |= 1L << offset;
+			return NonceStatus.ACCEPTED;
+		}
+
+		boolean get(int offset) {
+			return (bits[offset >>> 6] & (1L << offset)) != 0;
+		}
+
+		/** Moves every bit {@code distance} positions towards older nonces. */
+		private void shift(long distance, int windowSize) {
+			if (distance >= windowSize) {
+				Arrays.fill(bits, 0);
+				return;
+			}
+
+			int words = (int) distance >>> 6;
+			int shift = (int) distance & 63;
+			for (int i = bits.length - 1; i >= 0; i--) {
+				int source = i - words;
+				long word = source >= 0 ? bits[source] << shift : 0;
+				if (shift != 0 && source > 0) {
+					word |= bits[source - 1] >>> (64 - shift);
+				}
+				bits[i] = word;
+			}
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package org.norsh.model.security;
+
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Bounded, concurrent cache of decoded public keys, keyed by the {@code publicKey} string of signed requests.
+ * <p>
+ * Most traffic comes from a small set of senders, so each key is decoded once and then reused by format checks
+ * ({@link #contains(String)}) and signature verification ({@link #get(String)}). Only keys that decode successfully
+ * are cached.
+ * </p>
+ *
+ * <h2>Eviction:</h2>
+ * <p>
+ * When the cache is full, entries are evicted with the CLOCK (second chance) policy: an entry used since it was last
+ * considered is moved back to the end of the queue, so keys of frequent senders stay while one-off keys are dropped.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * PublicKey key = PublicKeyCache.shared().get(dto.getPublicKey()).getKey();
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see SignatureVerifier
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class PublicKeyCache {
+	/** Capacity of the {@link #shared()} cache. */
+	public static final int DEFAULT_CAPACITY = 10_000;
+
+	private static final PublicKeyCache SHARED = new PublicKeyCache(DEFAULT_CAPACITY);
+
+	private final Map<String, DecodedPublicKey> entries = new ConcurrentHashMap<>();
+	private final Queue<String> order = new ConcurrentLinkedQueue<>();
+	private final int capacity;
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param capacity the maximum number of keys.
+	 */
+	public PublicKeyCache(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Invalid capacity: must be greater than zero.");
+		}
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Returns the cache shared by {@link SignatureVerifier} and {@code CryptoSignedAbstractDto}.
+	 *
+	 * @return the shared cache.
+	 */
+	public static PublicKeyCache shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Returns the decoded key, decoding and caching it on first use.
+	 *
+	 * @param publicKey the encoded public key.
+	 * @return the decoded key and its encoding.
+	 * @throws GeneralSecurityException if the bytes are not a valid EC public key.
+	 * @throws IllegalArgumentException if the value is neither PEM, Hexadecimal nor Base64.
+	 */
+	public DecodedPublicKey get(String publicKey) throws GeneralSecurityException {
+		DecodedPublicKey decoded = entries.get(publicKey);
+		if (decoded != null) {
+			decoded.referenced = true;
+			return decoded;
+		}
+
+		KeyEncoding encoding = SignatureVerifier.encodingOf(publicKey);
+		decoded = new DecodedPublicKey(SignatureVerifier.decodePublicKey(publicKey, encoding), encoding);
+		if (entries.putIfAbsent(publicKey, decoded) == null) {
+			order.add(publicKey);
+			evict();
+		}
+		return decoded;
+	}
+
+	/**
+	 * Checks whether the key is cached, which means it was already decoded successfully.
+	 *
+	 * @param publicKey the encoded public key.
+	 * @return {@code true} if the key is cached.
+	 */
+	public boolean contains(String publicKey) {
+		DecodedPublicKey decoded = publicKey == null ? null : entries.get(publicKey);
+		if (decoded == null) {
+			return false;
+		}
+		decoded.referenced = true;
+		return true;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public void clear() {
+		entries.clear();
+		order.clear();
+	}
+
+	private void evict() {
+		while (entries.size() > capacity) {
+			String candidate = order.poll();
+			if (candidate == null) {
+				return;
+			}
+
+			DecodedPublicKey decoded = entries.get(candidate);
+			if (decoded != null && decoded.referenced) {
+				decoded.referenced = false;
+				order.add(candidate);
+			} else if (decoded != null) {
+				entries.remove(candidate, decoded);
+			}
+		}
+	}
+
+	/**
+	 * A decoded public key with the encoding it was received in.
+	 */
+	@Getter
+	public static final class DecodedPublicKey {
+		private final PublicKey key;
+		private final KeyEncoding encoding;
+
+		/** Set on every hit, cleared when the entry gets a second chance. */
+		@Getter(AccessLevel.NONE)
+		private volatile boolean referenced;
+
+		DecodedPublicKey(PublicKey key, KeyEncoding encoding) {
+			this.key = key;
+			this.encoding = encoding;
+		}
+	}
+}
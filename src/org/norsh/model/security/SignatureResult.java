@@ -0,0 +1,31 @@
+package org.norsh.model.security;
+
+import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Result of verifying the signature of one {@link CryptoSignedAbstractDto}.
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see SignatureVerifier
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Getter
+@AllArgsConstructor
+public class SignatureResult {
+	/** The verified DTO. */
+	private final CryptoSignedAbstractDto dto;
+
+	/** Outcome of the verification. */
+	private final SignatureStatus status;
+
+	/** Reason of the failure, or {@code null} when the signature is valid. */
+	private final String message;
+
+	public boolean isValid() {
+		return status == SignatureStatus.VALID;
+	}
+}
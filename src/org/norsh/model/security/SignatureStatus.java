@@ -0,0 +1,21 @@
+package org.norsh.model.security;
+
+/**
+ * Outcome of a signature verification.
+ *
+ * <h2>Statuses:</h2>
+ * <ul>
+ *   <li>{@link #VALID} - The signature matches the hash and the public key.</li>
+ *   <li>{@link #INVALID} - The signature is well formed but does not match the hash and the public key.</li>
+ *   <li>{@link #MALFORMED} - The signature, public key or hash is missing or badly encoded; no EC math was done.</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public enum SignatureStatus {
+	VALID,
+	INVALID,
+	MALFORMED;
+}
@@ -0,0 +1,224 @@
+package org.norsh.model.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
+import org.norsh.model.events.SignatureCheckEvent;
+import org.norsh.model.hashing.CanonicalHasher;
+import org.norsh.model.validation.Checks;
+
+/**
+ * SHA256withECDSA verification of {@link CryptoSignedAbstractDto} signatures.
+ * <p>
+ * Verification is split in two steps so that callers can reject bad input before any elliptic curve math:
+ * </p>
+ * <ul>
+ *   <li>{@link #checkStructure(CryptoSignedAbstractDto)} - presence and encoding of the hash, the public key and the
+ *   DER structure of the signature.</li>
+ *   <li>{@link #verify(CryptoSignedAbstractDto)} - the structural checks followed by the ECDSA verification.</li>
+ * </ul>
+ * <p>
+ * The signed message is the hexadecimal {@code hash} of the DTO, encoded as UTF-8, as in common's
+ * {@code org.norsh.security.Signature.verifyHash}. Public keys are decoded once through {@link PublicKeyCache#shared()}
+ * and the decoded key is verified against directly. {@link Signature} and {@link KeyFactory} instances are kept per
+ * thread, so all methods are safe for concurrent use.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see BatchSignatureVerifier
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class SignatureVerifier {
+	public static final String ALGORITHM = "SHA256withECDSA";
+
+	private static final String PEM_BEGIN = "-----BEGIN PUBLIC KEY-----";
+	private static final String PEM_END = "-----END PUBLIC KEY-----";
+
+	private static final ThreadLocal<Signature> SIGNATURES = ThreadLocal.withInitial(() -> {
+		try {
+			return Signature.getInstance(ALGORITHM);
+		} catch (GeneralSecurityException ex) {
+			throw new IllegalStateException(ALGORITHM + " is not available", ex);
+		}
+	});
+
+	private static final ThreadLocal<KeyFactory> KEY_FACTORIES = ThreadLocal.withInitial(() -> {
+		try {
+			return KeyFactory.getInstance("EC");
+		} catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("EC key factory is not available", ex);
+		}
+	});
+
+	private SignatureVerifier() {
+	}
+
+	/**
+	 * Checks the fields required for verification without doing any cryptographic work.
+	 *
+	 * @param dto the DTO to check.
+	 * @return the reason the DTO cannot be verified, or {@code null} if it is structurally valid.
+	 */
+	public static String checkStructure(CryptoSignedAbstractDto dto) {
+		String signature = dto.getSignature();
+		if (dto.getPublicKey() == null || dto.getPublicKey().isBlank()) {
+			return "Invalid public key: The 'publicKey' field is required and cannot be null or empty.";
+		} else if (signature == null || signature.isBlank()) {
+			return "Invalid signature: The 'signature' field is required and cannot be null or empty.";
+		} else if (!isDerSignature(signature)) {
+			return "Invalid signature: The 'signature' field must be a valid SHA256withECDSA signature in hexadecimal format.";
+		} else if (!Checks.isHex(dto.getHash(), 64, true)) {
+			return "Invalid hash: The 'hash' must be computed before the signature can be verified.";
+		}
+		return null;
+	}
+
+	/**
+	 * Verifies the signature of the given DTO.
+	 *
+	 * @param dto the DTO to verify, with its {@code hash} already computed.
+	 * @return the verification result.
+	 */
+	public static SignatureResult verify(CryptoSignedAbstractDto dto) {
+		String error = checkStructure(dto);
+		if (error != null) {
+			return new SignatureResult(dto, SignatureStatus.MALFORMED, error);
+		}
+		return verifyStructured(dto);
+	}
+
+	/**
+	 * Verifies a DTO that already passed {@link #checkStructure(CryptoSignedAbstractDto)}.
+	 */
+	static SignatureResult verifyStructured(CryptoSignedAbstractDto dto) {
+		SignatureCheckEvent event = new SignatureCheckEvent();
+		event.begin();
+		PublicKey publicKey;
+		try {
+			publicKey = PublicKeyCache.shared().get(dto.getPublicKey()).getKey();
+		} catch (GeneralSecurityException | IllegalArgumentException ex) {
+			event.end(SignatureCheckEvent.PUBLIC_KEY, dto, false);
+			return new SignatureResult(dto, SignatureStatus.MALFORMED, "Invalid public key: The 'publicKey' field must be in PEM, Base64, or Hexadecimal format.");
+		}
+
+		boolean valid = verify(publicKey, CanonicalHasher.fromHex(dto.getSignature()), dto.getHash());
+		event.end(SignatureCheckEvent.SIGNATURE, dto, valid);
+		if (valid) {
+			return new SignatureResult(dto, SignatureStatus.VALID, null);
+		}
+		return new SignatureResult(dto, SignatureStatus.INVALID, "Invalid signature: The provided signature does not match the computed hash from the given public key.");
+	}
+
+	/**
+	 * Verifies a DER encoded signature over the given hash with an already decoded key.
+	 *
+	 * @param publicKey the signer public key, e.g. from {@link PublicKeyCache}.
+	 * @param signature the DER encoded signature.
+	 * @param hash      the hexadecimal hash that was signed.
+	 * @return {@code true} if the signature is valid; {@code false} if it is not or cannot be checked.
+	 */
+	public static boolean verify(PublicKey publicKey, byte[] signature, String hash) {
+		Signature verifier = SIGNATURES.get();
+		try {
+			verifier.initVerify(publicKey);
+			verifier.update(hash.getBytes(StandardCharsets.UTF_8));
+			return verifier.verify(signature);
+		} catch (GeneralSecurityException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Decodes an X.509 encoded EC public key given in PEM, Hexadecimal or Base64 format.
+	 *
+	 * @param publicKey the encoded public key.
+	 * @return the decoded key.
+	 * @throws GeneralSecurityException if the bytes are not a valid EC public key.
+	 * @throws IllegalArgumentException if the value is neither Hexadecimal nor Base64.
+	 */
+	public static PublicKey decodePublicKey(String publicKey) throws GeneralSecurityException {
+		return decodePublicKey(publicKey, encodingOf(publicKey));
+	}
+
+	static PublicKey decodePublicKey(String publicKey, KeyEncoding encoding) throws GeneralSecurityException {
+		return KEY_FACTORIES.get().generatePublic(new X509EncodedKeySpec(decodeKeyBytes(publicKey, encoding)));
+	}
+
+	static byte[] decodeKeyBytes(String publicKey) {
+		return decodeKeyBytes(publicKey, encodingOf(publicKey));
+	}
+
+	static byte[] decodeKeyBytes(String publicKey, KeyEncoding encoding) {
+		String value = publicKey.strip();
+		return switch (encoding) {
+		case PEM -> {
+			int end = value.indexOf(PEM_END);
+			yield Base64.getMimeDecoder().decode(value.substring(PEM_BEGIN.length(), end < 0 ? value.length() : end));
+		}
+		case HEX -> CanonicalHasher.fromHex(value);
+		case BASE64 -> Base64.getDecoder().decode(value);
+		};
+	}
+
+	/**
+	 * Detects the encoding of a public key; values that are neither PEM nor Hexadecimal are assumed to be Base64.
+	 */
+	static KeyEncoding encodingOf(String publicKey) {
+		String value = publicKey.strip();
+		if (value.startsWith(PEM_BEGIN)) {
+			return KeyEncoding.PEM;
+		} else if ((value.length() & 1) == 0 && Checks.isHex(value, value.length(), true)) {
+			return KeyEncoding.HEX;
+		}
+		return KeyEncoding.BASE64;
+	}
+
+	/**
+	 * Checks that a hexadecimal string encodes an ECDSA signature as a DER {@code SEQUENCE} of two {@code INTEGER}s.
+	 */
+	static boolean isDerSignature(String signature) {
+		int length = signature.length();
+		if ((length & 1) != 0 || length < 16 || length > 278 || !Checks.isHex(signature, length, true)) {
+			return false;
+		}
+
+		int size = length >> 1;
+		int offset = 0;
+		if (octet(signature, offset++) != 0x30) {
+			return false;
+		}
+
+		int sequence = octet(signature, offset++);
+		if (sequence == 0x81) {
+			sequence = octet(signature, offset++);
+		} else if (sequence > 0x7f) {
+			return false;
+		}
+		if (offset + sequence != size) {
+			return false;
+		}
+
+		for (int i = 0; i < 2; i++) {
+			if (offset + 2 > size || octet(signature, offset++) != 0x02) {
+				return false;
+			}
+			int integer = octet(signature, offset++);
+			if (integer == 0 || integer > 0x7f || offset + integer > size) {
+				return false;
+			}
+			offset += integer;
+		}
+		return offset == size;
+	}
+
+	private static int octet(String hex, int index) {
+		return Character.digit(hex.charAt(index << 1), 16) << 4 | Character.digit(hex.charAt((index << 1) + 1), 16);
+	}
+}
@@ -0,0 +1,163 @@
+package org.norsh.model.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+
+import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
+import org.norsh.model.types.Hash256;
+
+/**
+ * Bounded, concurrent cache of requests whose signature has already been verified.
+ * <p>
+ * Entries are keyed by the canonical {@code hash} of the DTO and remember the {@code signature} and
+ * {@code publicKey} that were verified against it. A retried request with the same hash, signature and public key is
+ * accepted without repeating the ECDSA verification; any other combination is verified normally.
+ * </p>
+ * <p>
+ * The key is the raw {@code digest} computed locally by {@code validate()}, never the {@code hash} received from the
+ * sender: neither that hash nor the {@code requestId} proves that the other fields are unchanged. Callers must
+ * therefore pass DTOs whose digest was computed from their current fields; DTOs without a digest are never cached.
+ * </p>
+ *
+ * <h2>Eviction:</h2>
+ * <p>
+ * Entries expire {@code ttl} after insertion. When the cache exceeds {@code maximumSize}, the oldest entries are
+ * evicted first. Both happen on insertion, without a background thread.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * VerifiedRequestCache cache = new VerifiedRequestCache(100_000, Duration.ofMinutes(5));
+ * dto.validate();
+ * SignatureResult result = cache.verify(dto);
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see SignatureVerifier
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class VerifiedRequestCache {
+	private final Map<Hash256, Entry> entries = new ConcurrentHashMap<>();
+	private final Queue<Node> order = new ConcurrentLinkedQueue<>();
+	private final int maximumSize;
+	private final long ttlNanos;
+	private final LongSupplier clock;
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param maximumSize the maximum number of entries.
+	 * @param ttl         how long an entry stays valid after insertion.
+	 */
+	public VerifiedRequestCache(int maximumSize, Duration ttl) {
+		this(maximumSize, ttl, System::nanoTime);
+	}
+
+	VerifiedRequestCache(int maximumSize, Duration ttl, LongSupplier clock) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Invalid maximum size: must be greater than zero.");
+		} else if (ttl.isNegative() || ttl.isZero()) {
+			throw new IllegalArgumentException("Invalid TTL: must be greater than zero.");
+		}
+		this.maximumSize = maximumSize;
+		this.ttlNanos = ttl.toNanos();
+		this.clock = clock;
+	}
+
+	/**
+	 * Verifies the signature of the DTO, skipping the ECDSA verification if the same request was already verified.
+	 *
+	 * @param dto the DTO to verify, with its {@code digest} computed locally.
+	 * @return the verification result; valid results are recorded in the cache.
+	 */
+	public SignatureResult verify(CryptoSignedAbstractDto dto) {
+		if (contains(dto)) {
+			return new SignatureResult(dto, SignatureStatus.VALID, null);
+		}
+
+		SignatureResult result = SignatureVerifier.verify(dto);
+		if (result.isValid()) {
+			put(dto);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether the DTO was recorded with the same hash, signature and public key, and has not expired.
+	 *
+	 * @param dto the DTO, with its {@code digest} computed locally.
+	 * @return {@code true} if the request was already verified.
+	 */
+	public boolean contains(CryptoSignedAbstractDto dto) {
+		Hash256 hash = hashOf(dto);
+		Entry entry = hash == null ? null : entries.get(hash);
+		if (entry == null) {
+			return false;
+		} else if (entry.expiresAt - clock.getAsLong() <= 0) {
+			entries.remove(hash, entry);
+			return false;
+		}
+		return entry.signature.equals(dto.getSignature()) && entry.publicKey.equals(dto.getPublicKey());
+	}
+
+	/**
+	 * Records a DTO whose signature was verified.
+	 *
+	 * @param dto the verified DTO, with its {@code digest} computed locally and its {@code signature} and
+	 *            {@code publicKey} set.
+	 */
+	public void put(CryptoSignedAbstractDto dto) {
+		Hash256 hash = hashOf(dto);
+		if (hash == null || dto.getSignature() == null || dto.getPublicKey() == null) {
+			return;
+		}
+
+		long now = clock.getAsLong();
+		Entry entry = new Entry(dto.getSignature(), dto.getPublicKey(), now + ttlNanos);
+		entries.put(hash, entry);
+		order.add(new Node(hash, entry));
+		evict(now);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public void clear() {
+		entries.clear();
+		order.clear();
+	}
+
+	/**
+	 * Removes expired entries and, while the cache is over capacity, the oldest ones.
+	 */
+	private void evict(long now) {
+		Node node;
+		while ((node = order.peek()) != null) {
+			boolean stale = entries.get(node.hash) != node.entry;
+			if (!stale && node.entry.expiresAt - now > 0 && entries.size() <= maximumSize) {
+				return;
+			}
+			if (order.remove(node) && !stale) {
+				entries.remove(node.hash, node.entry);
+			}
+		}
+	}
+
+	private static Hash256 hashOf(CryptoSignedAbstractDto dto) {
+		byte[] digest = dto.getDigest();
+		return digest != null && digest.length == Hash256.BYTES ? Hash256.fromBytes(digest) : null;
+	}
+
+	private record Entry(String signature, String publicKey, long expiresAt) {
+	}
+
+	/** Insertion order of an entry; stale once the entry was replaced or removed. */
+	private record Node(Hash256 hash, Entry entry) {
+	}
+}
@@ -1,12 +1,13 @@
 package org.norsh.model.transport;
 
 import org.norsh.exceptions.OperationStatus;
+import org.norsh.model.events.DataTransferEvent;
 import org.norsh.rest.RestMethod;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -30,7 +31,6 @@ import lombok.Setter;
  */
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 @JsonInclude(Include.NON_NULL)
 public class DataTransfer {
@@ -41,6 +41,14 @@ public class DataTransfer {
 
 	private String requestClassName;
 
+	/**
+	 * Id of the request data class in {@link TypeRegistry}, resolved without loading the class by name. Carried by
+	 * the binary codec only; JSON keeps the {@code requestClassName} contract of existing consumers.
+	 */
+	@JsonIgnore
+	private Integer requestTypeId;
+
+	/** The request data, or a {@link RawPayload} until it is first accessed. */
 	private Object requestData;
 
 	private Object responseData;
@@ -50,6 +58,16 @@ public class DataTransfer {
 	/** The current status of the request. */
 	private OperationStatus status;
 
+	public DataTransfer(String requestId, RestMethod method, String requestClassName, Object requestData, Object responseData, String message, OperationStatus status) {
+		this.requestId = requestId;
+		this.method = method;
+		this.requestClassName = requestClassName;
+		this.requestData = requestData;
+		this.responseData = responseData;
+		this.message = message;
+		this.status = status;
+	}
+
 	/**
 	 * Converts this DTO to a response format by removing internal fields 
 	 * that should not be exposed in API responses.
@@ -57,15 +75,64 @@ public class DataTransfer {
 	 * @return A new {@link DataTransfer} instance without the `className` field.
 	 */
 	public DataTransfer toResponse() {
-		return new DataTransfer(this.requestId, this.status, this.responseData);
+		DataTransferEvent event = new DataTransferEvent();
+		event.begin();
+		DataTransfer response = new DataTransfer(this.requestId, this.status, this.responseData);
+		event.end(DataTransferEvent.TO_RESPONSE, requestClassName, requestId, requestData);
+		return response;
 	}
 
 	public DataTransfer(String requestId, RestMethod method, Object requestData) {
+		DataTransferEvent event = new DataTransferEvent();
+		event.begin();
 		this.requestId = requestId;
 		this.method = method;
 		this.requestData = requestData;
 		this.requestClassName = requestData.getClass().getCanonicalName();
+		this.requestTypeId = typeId(requestData.getClass());
 		this.status = OperationStatus.PROCESSING;
+		event.end(DataTransferEvent.CREATE, requestClassName, requestId, requestData);
+	}
+
+	/**
+	 * Returns the request data, decoding it first if it was received as a {@link RawPayload}.
+	 *
+	 * @return the request data.
+	 */
+	public Object getRequestData() {
+		if (requestData instanceof RawPayload payload) {
+			requestData = payload.decode();
+		}
+		return requestData;
+	}
+
+	/**
+	 * Returns the request data in its encoded form, without decoding it.
+	 *
+	 * @return the raw payload, or {@code null} if the request data was never encoded or has already been decoded.
+	 */
+	@JsonIgnore
+	public RawPayload getRawRequestData() {
+		return requestData instanceof RawPayload payload ? payload : null;
+	}
+
+	/**
+	 * Resolves the class of the request data, from {@link #requestTypeId} when present and from
+	 * {@link #requestClassName} otherwise.
+	 *
+	 * @return the registered class, or {@code null} if the request type is not in {@link TypeRegistry}.
+	 */
+	@JsonIgnore
+	public Class<?> getRequestType() {
+		if (requestTypeId != null) {
+			return TypeRegistry.typeOf(requestTypeId);
+		}
+		return TypeRegistry.typeOf(TypeRegistry.idOf(requestClassName));
+	}
+
+	private static Integer typeId(Class<?> type) {
+		int id = TypeRegistry.idOf(type);
+		return id == TypeRegistry.UNKNOWN ? null : id;
 	}
 
 	public DataTransfer(String requestId, OperationStatus status) {
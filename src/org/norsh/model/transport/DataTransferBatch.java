@@ -0,0 +1,178 @@
+package org.norsh.model.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.norsh.exceptions.OperationStatus;
+import org.norsh.rest.RestMethod;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Envelope carrying several {@link DataTransfer} requests in a single message.
+ * <p>
+ * Fields shared by every item ({@code method}, {@code requestClassName} and {@code requestTypeId}) are hoisted into
+ * the batch header and removed from the items. Each item keeps its own {@code requestId}, {@code requestData},
+ * {@code responseData}, {@code message} and {@code status}, so items complete and fail independently.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * DataTransferBatch batch = DataTransferBatch.of(batchId, transfers);
+ * ...
+ * for (DataTransfer transfer : batch.split()) {
+ *     process(transfer);
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DataTransfer
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(Include.NON_NULL)
+public class DataTransferBatch {
+	/** Unique identifier of the batch. */
+	private String batchId;
+
+	/** Method shared by all items, or {@code null} if they differ. */
+	private RestMethod method;
+
+	/** Request class shared by all items, or {@code null} if they differ. */
+	private String requestClassName;
+
+	/** Request type id shared by all items, or {@code null} if they differ. */
+	private Integer requestTypeId;
+
+	/** The items, without the header fields. */
+	private List<DataTransfer> items;
+
+	/**
+	 * Groups transfers into a batch, hoisting the fields they all share into the header.
+	 *
+	 * @param batchId   the batch identifier.
+	 * @param transfers the transfers, in order; they are copied and not modified.
+	 * @return the batch.
+	 */
+	public static DataTransferBatch of(String batchId, List<DataTransfer> transfers) {
+		DataTransferBatch batch = new DataTransferBatch();
+		batch.batchId = batchId;
+		batch.items = new ArrayList<>(transfers.size());
+		if (transfers.isEmpty()) {
+			return batch;
+		}
+
+		DataTransfer first = transfers.get(0);
+		boolean sameMethod = true;
+		boolean sameClassName = true;
+		boolean sameTypeId = true;
+		for (DataTransfer transfer : transfers) {
+			sameMethod &= transfer.getMethod() == first.getMethod();
+			sameClassName &= Objects.equals(transfer.getRequestClassName(), first.getRequestClassName());
+			sameTypeId &= Objects.equals(transfer.getRequestTypeId(), first.getRequestTypeId());
+		}
+
+		batch.method = sameMethod ? first.getMethod() : null;
+		batch.requestClassName = sameClassName ? first.getRequestClassName() : null;
+		batch.requestTypeId = sameTypeId ? first.getRequestTypeId() : null;
+
+		for (DataTransfer transfer : transfers) {
+			DataTransfer item = copy(transfer);
+			if (sameMethod) {
+				item.setMethod(null);
+			}
+			if (sameClassName) {
+				item.setRequestClassName(null);
+			}
+			if (sameTypeId) {
+				item.setRequestTypeId(null);
+			}
+			batch.items.add(item);
+		}
+		return batch;
+	}
+
+	/**
+	 * Restores the individual transfers, with the header fields applied to every item.
+	 *
+	 * @return new {@link DataTransfer} instances, in item order.
+	 */
+	public List<DataTransfer> split() {
+		List<DataTransfer> transfers = new ArrayList<>(size());
+		if (items != null) {
+			for (DataTransfer item : items) {
+				DataTransfer transfer = copy(item);
+				if (transfer.getMethod() == null) {
+					transfer.setMethod(method);
+				}
+				if (transfer.getRequestClassName() == null) {
+					transfer.setRequestClassName(requestClassName);
+				}
+				if (transfer.getRequestTypeId() == null) {
+					transfer.setRequestTypeId(requestTypeId);
+				}
+				transfers.add(transfer);
+			}
+		}
+		return transfers;
+	}
+
+	/**
+	 * Converts the batch to a response, applying {@link DataTransfer#toResponse()} to every item.
+	 *
+	 * @return a new batch with the same {@code batchId} and no header fields.
+	 */
+	public DataTransferBatch toResponse() {
+		DataTransferBatch response = new DataTransferBatch();
+		response.batchId = batchId;
+		response.items = new ArrayList<>(size());
+		if (items != null) {
+			for (DataTransfer item : items) {
+				response.items.add(item.toResponse());
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * Indicates whether every item has left the {@link OperationStatus#PROCESSING} status.
+	 *
+	 * @return {@code true} if no item is still processing.
+	 */
+	@JsonIgnore
+	public boolean isComplete() {
+		if (items != null) {
+			for (DataTransfer item : items) {
+				if (item.getStatus() == null || item.getStatus() == OperationStatus.PROCESSING) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	public int size() {
+		return items == null ? 0 : items.size();
+	}
+
+	private static DataTransfer copy(DataTransfer transfer) {
+		DataTransfer copy = new DataTransfer(transfer.getRequestId(), transfer.getStatus(), transfer.getResponseData());
+		copy.setMethod(transfer.getMethod());
+		copy.setRequestClassName(transfer.getRequestClassName());
+		copy.setRequestTypeId(transfer.getRequestTypeId());
+		// Keeps raw payloads encoded
+		copy.setRequestData(transfer.getRawRequestData() != null ? transfer.getRawRequestData() : transfer.getRequestData());
+		copy.setMessage(transfer.getMessage());
+		return copy;
+	}
+}
@@ -0,0 +1,250 @@
+package org.norsh.model.transport;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring of reusable {@link DataTransfer} slots.
+ * <p>
+ * All slots are allocated up front. Producers claim a slot, fill it in place and publish it; the consumer reads the
+ * published slots in claim order and clears each one for reuse. No object is allocated per message, and the ring
+ * never grows: when it is full, {@link #tryPublish(Consumer)} returns {@code false} so that the producer can reject
+ * or shed the request, while {@link #publish(Consumer)} waits for a free slot.
+ * </p>
+ * <p>
+ * A slot passed to the consumer is only valid during the callback; values kept afterwards must be copied, since the
+ * slot is cleared and handed to a producer again.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * DataTransferRing ring = new DataTransferRing(8192, DataTransferRing.WaitStrategy.PARK);
+ *
+ * // Request handlers
+ * if (!ring.tryPublish(slot -&gt; fill(slot, request))) {
+ *     return busy();
+ * }
+ *
+ * // Broker publisher thread
+ * while (running) {
+ *     ring.take(producer::send, 256);
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DataTransfer
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class DataTransferRing {
+	/** How producers wait for a free slot and the consumer waits for a published one. */
+	public enum WaitStrategy {
+		/** Busy-spins; lowest latency, one core per waiting thread. */
+		SPIN,
+
+		/** Spins briefly, then yields the processor between checks. */
+		YIELD,
+
+		/** Spins and yields briefly, then parks with a growing delay of up to one millisecond. */
+		PARK;
+
+		private static final int SPINS = 100;
+		private static final int YIELDS = 100;
+		private static final long MAX_PARK_NANOS = 1_000_000;
+
+		void idle(int attempt) {
+			if (this == SPIN || attempt < SPINS) {
+				Thread.onSpinWait();
+			} else if (this == YIELD || attempt < SPINS + YIELDS) {
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(Math.min(1L << Math.min(attempt - SPINS - YIELDS, 20), MAX_PARK_NANOS));
+			}
+		}
+	}
+
+	private final DataTransfer[] slots;
+	private final boolean[] skipped;
+	private final int mask;
+	private final WaitStrategy waitStrategy;
+
+	/** Sequence published in each slot, or -1 before its first use. */
+	private final AtomicLongArray published;
+
+	/** Next sequence to claim by a producer. */
+	private final AtomicLong head = new AtomicLong();
+
+	/** Next sequence to read by the consumer. */
+	private final AtomicLong tail = new AtomicLong();
+
+	/** Last value of {@link #tail} seen by a producer, which avoids reading it on every claim. */
+	private volatile long cachedTail;
+
+	/**
+	 * Creates a ring.
+	 *
+	 * @param capacity     the number of slots, rounded up to a power of two.
+	 * @param waitStrategy how blocked producers and the consumer wait.
+	 */
+	public DataTransferRing(int capacity, WaitStrategy waitStrategy) {
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Invalid capacity: must be between 1 and 2^30.");
+		}
+
+		int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.slots = new DataTransfer[size];
+		this.skipped = new boolean[size];
+		this.published = new AtomicLongArray(size);
+		this.mask = size - 1;
+		this.waitStrategy = waitStrategy;
+		for (int i = 0; i < size; i++) {
+			slots[i] = new DataTransfer();
+			published.set(i, -1);
+		}
+	}
+
+	/**
+	 * Fills and publishes a slot if one is free.
+	 *
+	 * @param writer fills the slot; it must not keep a reference to it.
+	 * @return {@code false} if the ring is full and nothing was published.
+	 */
+	public boolean tryPublish(Consumer<? super DataTransfer> writer) {
+		long sequence = claim();
+		if (sequence < 0) {
+			return false;
+		}
+		write(sequence, writer);
+		return true;
+	}
+
+	/**
+	 * Fills and publishes a slot, waiting for one to become free.
+	 *
+	 * @param writer fills the slot; it must not keep a reference to it.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public void publish(Consumer<? super DataTransfer> writer) throws InterruptedException {
+		long sequence;
+		for (int attempt = 0; (sequence = claim()) < 0; attempt++) {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			waitStrategy.idle(attempt);
+		}
+		write(sequence, writer);
+	}
+
+	/**
+	 * Passes the published slots to the handler, in order, without waiting. Only one thread may consume.
+	 *
+	 * @param handler receives each slot, valid only during the call.
+	 * @param max     the maximum number of slots to consume.
+	 * @return the number of slots consumed.
+	 */
+	public int poll(Consumer<? super DataTransfer> handler, int max) {
+		long sequence = tail.get();
+		int count = 0;
+		while (count < max) {
+			int index = (int) sequence & mask;
+			if (published.get(index) != sequence) {
+				break;
+			}
+
+			try {
+				if (!skipped[index]) {
+					handler.accept(slots[index]);
+				}
+			} finally {
+				skipped[index] = false;
+				clear(slots[index]);
+				// Releases the slot to producers
+				tail.set(++sequence);
+			}
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Passes the published slots to the handler, waiting until at least one is available. Only one thread may consume.
+	 *
+	 * @param handler receives each slot, valid only during the call.
+	 * @param max     the maximum number of slots to consume.
+	 * @return the number of slots consumed, at least one.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public int take(Consumer<? super DataTransfer> handler, int max) throws InterruptedException {
+		int count;
+		for (int attempt = 0; (count = poll(handler, max)) == 0; attempt++) {
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+			waitStrategy.idle(attempt);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the number of claimed slots not consumed yet.
+	 *
+	 * @return the number of messages in the ring, including the ones being written.
+	 */
+	public int size() {
+		return (int) (head.get() - tail.get());
+	}
+
+	public int capacity() {
+		return slots.length;
+	}
+
+	public int remainingCapacity() {
+		return capacity() - size();
+	}
+
+	/**
+	 * Claims the next sequence.
+	 *
+	 * @return the sequence, or {@code -1} if the ring is full.
+	 */
+	private long claim() {
+		long sequence;
+		do {
+			sequence = head.get();
+			if (sequence - slots.length >= cachedTail) {
+				long current = tail.get();
+				cachedTail = current;
+				if (sequence - slots.length >= current) {
+					return -1;
+				}
+			}
+		} while (!head.compareAndSet(sequence, sequence + 1));
+		return sequence;
+	}
+
+	private void write(long sequence, Consumer<? super DataTransfer> writer) {
+		int index = (int) sequence & mask;
+		try {
+			writer.accept(slots[index]);
+		} catch (RuntimeException | Error ex) {
+			// The sequence is claimed and must still be published, or the consumer would stop at it
+			skipped[index] = true;
+			throw ex;
+		} finally {
+			published.set(index, sequence);
+		}
+	}
+
+	private static void clear(DataTransfer slot) {
+		slot.setRequestId(null);
+		slot.setMethod(null);
+		slot.setRequestClassName(null);
+		slot.setRequestTypeId(null);
+		slot.setRequestData(null);
+		slot.setResponseData(null);
+		slot.setMessage(null);
+		slot.setStatus(null);
+	}
+}
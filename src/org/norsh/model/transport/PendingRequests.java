@@ -0,0 +1,500 @@
+package org.norsh.model.transport;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+
+import org.norsh.exceptions.OperationException;
+import org.norsh.exceptions.OperationStatus;
+
+/**
+ * Correlates {@link DataTransfer} requests waiting for a response, completing them on response or on timeout.
+ * <p>
+ * Pending requests are kept in a fixed-size open-addressing table keyed by {@code requestId}. Each entry is itself the
+ * {@link CompletableFuture} returned to the caller, so registering a request allocates one object. Completing a
+ * request is a lookup and a compare-and-set; its timer is unlinked from the wheel at the next tick, so the response
+ * is not retained until the deadline.
+ * </p>
+ * <p>
+ * Removed entries leave tombstones so that concurrent probes stay correct. Insertions and removals share a read lock
+ * and otherwise only compare-and-set slots; once tombstones fill a quarter of the table, the removal that crossed
+ * the threshold takes the write lock and rebuilds the table without them, which keeps probes short at an amortized
+ * constant cost. {@link #isPending(String)} takes no lock.
+ * </p>
+ *
+ * <h2>Timeouts:</h2>
+ * <p>
+ * Deadlines are rounded up to ticks and kept in a hierarchical timer wheel of four levels of 64 slots, advanced by a
+ * single daemon thread. New timers are pushed onto a lock-free stack that the timer thread moves into the wheel, so
+ * registering threads never contend on the wheel, and no task is scheduled per request. An expired request is
+ * completed with {@link OperationStatus#TIMEOUT}.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * PendingRequests pending = new PendingRequests(100_000, Duration.ofMillis(10));
+ * CompletableFuture&lt;DataTransfer&gt; response = pending.register(request, Duration.ofSeconds(30));
+ * producer.send(request);
+ * ...
+ * // When the response arrives
+ * pending.complete(response);
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DataTransfer
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class PendingRequests implements AutoCloseable {
+	/** Marks a slot whose entry was removed; probing continues past it. */
+	private static final Object TOMBSTONE = new Object();
+
+	private static final int WHEEL_BITS = 6;
+	private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+	private static final int LEVELS = 4;
+
+	private volatile AtomicReferenceArray<Object> slots;
+	private final int mask;
+	private final int capacity;
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicInteger tombstones = new AtomicInteger();
+
+	/** Shared by insertions and removals, exclusive while rebuilding the table. */
+	private final StampedLock lock = new StampedLock();
+
+	private final long tickNanos;
+	private final long origin;
+	private final LongSupplier clock;
+
+	/** Timers registered since the last advance, linked through {@link Pending#next}. */
+	private final AtomicReference<Pending> incoming = new AtomicReference<>();
+
+	/** Requests completed by a response since the last advance, linked through {@link Pending#nextDone}. */
+	private final AtomicReference<Pending> done = new AtomicReference<>();
+
+	/** Heads of the timer lists, by level and slot; only accessed by the thread advancing the wheel. */
+	private final Pending[][] wheel = new Pending[LEVELS][WHEEL_SIZE];
+	private long tick;
+
+	private final Thread timer;
+	private volatile boolean closed;
+
+	/**
+	 * Creates a table and starts its timer thread.
+	 *
+	 * @param capacity the maximum number of pending requests.
+	 * @param tick     the timer resolution; timeouts are rounded up to a multiple of it.
+	 */
+	public PendingRequests(int capacity, Duration tick) {
+		this(capacity, tick, System::nanoTime, true);
+	}
+
+	PendingRequests(int capacity, Duration tick, LongSupplier clock, boolean startTimer) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Invalid capacity: must be greater than zero.");
+		} else if (tick.isNegative() || tick.isZero()) {
+			throw new IllegalArgumentException("Invalid tick: must be greater than zero.");
+		}
+
+		// At most half full, which keeps probe sequences short
+		int length = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 2;
+		this.slots = new AtomicReferenceArray<>(length);
+		this.mask = length - 1;
+		this.capacity = capacity;
+		this.tickNanos = tick.toNanos();
+		this.clock = clock;
+		this.origin = clock.getAsLong();
+
+		if (startTimer) {
+			this.timer = Thread.ofPlatform().name("norsh-pending-timer").daemon().start(this::runTimer);
+		} else {
+			this.timer = null;
+		}
+	}
+
+	/**
+	 * Registers a request waiting for its response.
+	 *
+	 * @param request the request, with its {@code requestId} set.
+	 * @param timeout how long to wait for the response.
+	 * @return the response, or a {@link OperationStatus#TIMEOUT} envelope if none arrives in time.
+	 * @throws OperationException if the request is already pending or the table is full.
+	 */
+	public CompletableFuture<DataTransfer> register(DataTransfer request, Duration timeout) throws OperationException {
+		String requestId = request.getRequestId();
+		if (requestId == null) {
+			throw new IllegalArgumentException("Invalid request: The 'requestId' field is required.");
+		} else if (closed) {
+			throw new OperationException("Pending requests closed: Request '" + requestId + "' cannot be registered.");
+		} else if (size.incrementAndGet() > capacity) {
+			size.decrementAndGet();
+			throw new OperationException("Too many pending requests: The limit of " + capacity + " was reached.");
+		}
+
+		long timeoutNanos = Math.max(timeout.toNanos(), 0);
+		Pending pending = new Pending(requestId, Math.ceilDiv(clock.getAsLong() - origin + timeoutNanos, tickNanos));
+		if (!insert(pending)) {
+			size.decrementAndGet();
+			throw new OperationException("Duplicate request: Request '" + requestId + "' is already pending.");
+		}
+
+		Pending head;
+		do {
+			head = incoming.get();
+			pending.next = head;
+		} while (!incoming.compareAndSet(head, pending));
+		return pending;
+	}
+
+	/**
+	 * Completes the pending request with the same {@code requestId} as the response.
+	 *
+	 * @param response the response.
+	 * @return {@code true} if a pending request was completed, {@code false} if none was waiting.
+	 */
+	public boolean complete(DataTransfer response) {
+		Pending pending = remove(response.getRequestId());
+		if (pending == null || !pending.complete(response)) {
+			return false;
+		}
+
+		Pending head;
+		do {
+			head = done.get();
+			pending.nextDone = head;
+		} while (!done.compareAndSet(head, pending));
+		return true;
+	}
+
+	/**
+	 * Indicates whether a request is waiting for its response.
+	 *
+	 * @param requestId the request identifier.
+	 * @return {@code true} if the request is pending.
+	 */
+	public boolean isPending(String requestId) {
+		return indexOf(slots, requestId) >= 0;
+	}
+
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * Stops the timer and completes every pending request with {@link OperationStatus#ERROR}.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		if (timer != null) {
+			timer.interrupt();
+		}
+		long stamp = lock.readLock();
+		try {
+			AtomicReferenceArray<Object> table = slots;
+			for (int i = 0; i < table.length(); i++) {
+				Object value = table.get(i);
+				if (value instanceof Pending pending && table.compareAndSet(i, pending, TOMBSTONE)) {
+					size.decrementAndGet();
+					tombstones.incrementAndGet();
+					pending.complete(response(pending.requestId, OperationStatus.ERROR, "Pending requests closed before a response was received."));
+				}
+			}
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Moves new timers into the wheel and expires every timer up to the current tick.
+	 */
+	synchronized void advance() {
+		long now = (clock.getAsLong() - origin) / tickNanos;
+
+		Pending pending = incoming.getAndSet(null);
+		while (pending != null) {
+			Pending next = pending.next;
+			schedule(pending);
+			pending = next;
+		}
+
+		pending = done.getAndSet(null);
+		while (pending != null) {
+			Pending next = pending.nextDone;
+			pending.nextDone = null;
+			detach(pending);
+			pending = next;
+		}
+
+		while (tick < now) {
+			tick++;
+			for (int level = LEVELS - 1; level > 0; level--) {
+				if ((tick & ((1L << (level * WHEEL_BITS)) - 1)) == 0) {
+					// Moves the timers of this slot to lower levels
+					fire(level, (int) (tick >>> (level * WHEEL_BITS)) & WHEEL_MASK);
+				}
+			}
+			fire(0, (int) tick & WHEEL_MASK);
+		}
+	}
+
+	private void runTimer() {
+		while (!closed) {
+			LockSupport.parkNanos(this, tickNanos);
+			try {
+				advance();
+			} catch (RuntimeException ex) {
+				// Keeps the timer alive; a failing callback only affects its own request
+			}
+		}
+	}
+
+	private void fire(int level, int slot) {
+		Pending pending = wheel[level][slot];
+		wheel[level][slot] = null;
+		while (pending != null) {
+			Pending next = pending.next;
+			pending.prev = null;
+			pending.level = -1;
+			schedule(pending);
+			pending = next;
+		}
+	}
+
+	/**
+	 * Places a timer in the wheel, or expires it if its deadline has passed.
+	 */
+	private void schedule(Pending pending) {
+		pending.next = null;
+		if (pending.isDone()) {
+			// Completed or cancelled by the caller, without going through the table
+			unlink(pending);
+			return;
+		} else if (pending.deadline <= tick) {
+			if (unlink(pending)) {
+				pending.complete(response(pending.requestId, OperationStatus.TIMEOUT, "Request timed out before a response was received."));
+			}
+			return;
+		}
+
+		// Lowest level where the deadline falls in the same block as the current tick
+		int level = 0;
+		while (level < LEVELS - 1 && (pending.deadline >>> ((level + 1) * WHEEL_BITS)) != (tick >>> ((level + 1) * WHEEL_BITS))) {
+			level++;
+		}
+		int slot = (int) (pending.deadline >>> (level * WHEEL_BITS)) & WHEEL_MASK;
+		Pending head = wheel[level][slot];
+		pending.next = head;
+		if (head != null) {
+			head.prev = pending;
+		}
+		wheel[level][slot] = pending;
+		pending.level = level;
+		pending.slot = slot;
+	}
+
+	/**
+	 * Removes a timer from its wheel slot, if it is still in the wheel.
+	 */
+	private void detach(Pending pending) {
+		if (pending.level < 0) {
+			return;
+		}
+
+		if (pending.prev == null) {
+			wheel[pending.level][pending.slot] = pending.next;
+		} else {
+			pending.prev.next = pending.next;
+		}
+		if (pending.next != null) {
+			pending.next.prev = pending.prev;
+		}
+		pending.next = null;
+		pending.prev = null;
+		pending.level = -1;
+	}
+
+	/**
+	 * Removes the entry of a timer from the table, unless a response already removed it.
+	 */
+	private boolean unlink(Pending pending) {
+		boolean removed = false;
+		long stamp = lock.readLock();
+		try {
+			AtomicReferenceArray<Object> table = slots;
+			int index = indexOf(table, pending.requestId);
+			if (index >= 0 && table.compareAndSet(index, pending, TOMBSTONE)) {
+				size.decrementAndGet();
+				tombstones.incrementAndGet();
+				removed = true;
+			}
+		} finally {
+			lock.unlockRead(stamp);
+		}
+
+		if (removed) {
+			reclaim();
+		}
+		return removed;
+	}
+
+	private boolean insert(Pending pending) {
+		long stamp = lock.readLock();
+		try {
+			return insert(slots, pending);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	private boolean insert(AtomicReferenceArray<Object> table, Pending pending) {
+		int hash = spread(pending.requestId.hashCode());
+		while (true) {
+			int free = -1;
+			Object expected = null;
+			for (int i = 0; i <= mask; i++) {
+				int index = (hash + i) & mask;
+				Object value = table.get(index);
+				if (value == null) {
+					if (free < 0) {
+						free = index;
+						expected = null;
+					}
+					break;
+				} else if (value == TOMBSTONE) {
+					if (free < 0) {
+						free = index;
+						expected = TOMBSTONE;
+					}
+				} else if (((Pending) value).requestId.equals(pending.requestId)) {
+					return false;
+				}
+			}
+
+			if (free < 0) {
+				// Unreachable while the table is at most half full
+				throw new IllegalStateException("Pending request table is full.");
+			} else if (table.compareAndSet(free, expected, pending)) {
+				if (expected == TOMBSTONE) {
+					tombstones.decrementAndGet();
+				}
+				return true;
+			}
+		}
+	}
+
+	private Pending remove(String requestId) {
+		Pending removed = null;
+		long stamp = lock.readLock();
+		try {
+			AtomicReferenceArray<Object> table = slots;
+			while (removed == null) {
+				int index = indexOf(table, requestId);
+				if (index < 0) {
+					break;
+				}
+				Object value = table.get(index);
+				if (value instanceof Pending pending && pending.requestId.equals(requestId) && table.compareAndSet(index, pending, TOMBSTONE)) {
+					size.decrementAndGet();
+					tombstones.incrementAndGet();
+					removed = pending;
+				}
+			}
+		} finally {
+			lock.unlockRead(stamp);
+		}
+
+		if (removed != null) {
+			reclaim();
+		}
+		return removed;
+	}
+
+	/**
+	 * Rebuilds the table without tombstones once they fill a quarter of it.
+	 */
+	private void reclaim() {
+		if (tombstones.get() <= (mask + 1) >>> 2) {
+			return;
+		}
+
+		long stamp = lock.writeLock();
+		try {
+			if (tombstones.get() > (mask + 1) >>> 2) {
+				AtomicReferenceArray<Object> table = slots;
+				AtomicReferenceArray<Object> rebuilt = new AtomicReferenceArray<>(mask + 1);
+				for (int i = 0; i <= mask; i++) {
+					if (table.get(i) instanceof Pending pending) {
+						insert(rebuilt, pending);
+					}
+				}
+				slots = rebuilt;
+				tombstones.set(0);
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	private int indexOf(AtomicReferenceArray<Object> table, String requestId) {
+		if (requestId == null) {
+			return -1;
+		}
+
+		int hash = spread(requestId.hashCode());
+		for (int i = 0; i <= mask; i++) {
+			int index = (hash + i) & mask;
+			Object value = table.get(index);
+			if (value == null) {
+				return -1;
+			} else if (value != TOMBSTONE && ((Pending) value).requestId.equals(requestId)) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private static int spread(int hash) {
+		return (hash ^ (hash >>> 16)) * 0x9e3779b9;
+	}
+
+	private static DataTransfer response(String requestId, OperationStatus status, String message) {
+		DataTransfer response = new DataTransfer(requestId, status);
+		response.setMessage(message);
+		return response;
+	}
+
+	/**
+	 * Pending request, also its own future and timer.
+	 */
+	private static final class Pending extends CompletableFuture<DataTransfer> {
+		private final String requestId;
+
+		/** Tick at or after which the request expires. */
+		private final long deadline;
+
+		/** Next timer in the incoming stack or in a wheel slot. */
+		private Pending next;
+
+		/** Previous timer in the wheel slot, or {@code null} at its head. */
+		private Pending prev;
+
+		/** Wheel level and slot holding the timer, or a level of {@code -1} while it is not in the wheel. */
+		private int level = -1;
+		private int slot;
+
+		/** Next request in the stack of requests completed by a response. */
+		private Pending nextDone;
+
+		Pending(String requestId, long deadline) {
+			this.requestId = requestId;
+			this.deadline = deadline;
+		}
+	}
+}
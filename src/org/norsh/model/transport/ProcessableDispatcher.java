@@ -0,0 +1,272 @@
+package org.norsh.model.transport;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.norsh.exceptions.OperationException;
+import org.norsh.model.metrics.MetricStage;
+import org.norsh.model.metrics.ValidationMetrics;
+import org.norsh.rest.RestMethod;
+
+/**
+ * Routes {@link DataTransfer} requests to the methods annotated with {@link Processable}.
+ * <p>
+ * Handlers are scanned once when the dispatcher is built. Each binding is keyed by the DTO type, taken from the first
+ * parameter of the method, and by the {@link RestMethod} of the annotation. It is stored as a {@link MethodHandle}
+ * bound to its handler instance, in a table indexed by {@link TypeRegistry} id and method ordinal. Dispatching is two
+ * array lookups and an {@code invokeExact}; no reflection happens per message.
+ * </p>
+ *
+ * <h2>Handler Methods:</h2>
+ * <ul>
+ *   <li>{@code Object process(SomeDto dto)} - receives the request data.</li>
+ *   <li>{@code Object process(SomeDto dto, DataTransfer transfer)} - also receives the envelope.</li>
+ * </ul>
+ * <p>
+ * The return value becomes the response data ({@code null} for {@code void} methods). The DTO type must be registered
+ * in {@link TypeRegistry}.
+ * </p>
+ *
+ * <h2>Startup Checks:</h2>
+ * <p>
+ * {@link Builder#build()} fails with an {@link IllegalStateException} when a method has an unsupported signature, its
+ * DTO type is not registered, two methods bind the same (type, method) pair, or a binding declared with
+ * {@link Builder#require(Class, RestMethod)} has no handler.
+ * </p>
+ * <p>
+ * With {@link Builder#metrics(ValidationMetrics)}, each invocation is recorded as {@link MetricStage#DISPATCH}; a
+ * handler exception counts as an error under its class name.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * ProcessableDispatcher dispatcher = ProcessableDispatcher.builder()
+ *     .handler(new TransactionService())
+ *     .require(TransactionCreateDto.class, RestMethod.POST)
+ *     .build();
+ *
+ * Object response = dispatcher.dispatch(transfer);
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see Processable
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class ProcessableDispatcher {
+	private static final MethodType HANDLER_TYPE = MethodType.methodType(Object.class, Object.class, DataTransfer.class);
+	private static final int METHODS = RestMethod.values().length;
+
+	/** Bound handlers, indexed by {@code typeId * METHODS + method.ordinal()}. */
+	private final MethodHandle[] table;
+	private final ValidationMetrics metrics;
+
+	private ProcessableDispatcher(MethodHandle[] table, ValidationMetrics metrics) {
+		this.table = table;
+		this.metrics = metrics;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Indicates whether a handler is bound to the given DTO type and method.
+	 *
+	 * @param type   the DTO type.
+	 * @param method the REST method.
+	 * @return {@code true} if a request of this type and method can be dispatched.
+	 */
+	public boolean isBound(Class<?> type, RestMethod method) {
+		int id = TypeRegistry.idOf(type);
+		return id != TypeRegistry.UNKNOWN && table[index(id, method)] != null;
+	}
+
+	/**
+	 * Invokes the handler bound to the type and method of the request.
+	 *
+	 * @param transfer the request, with its {@code method} and {@code requestData} set.
+	 * @return the value returned by the handler.
+	 * @throws OperationException if no handler is bound to the request.
+	 * @throws Exception          any exception thrown by the handler.
+	 */
+	public Object dispatch(DataTransfer transfer) throws Exception {
+		Object requestData = transfer.getRequestData();
+		RestMethod method = transfer.getMethod();
+		if (requestData == null || method == null) {
+			throw new OperationException("Invalid request: The 'method' and 'requestData' fields are required.");
+		}
+
+		Integer id = transfer.getRequestTypeId();
+		int typeId = id != null && TypeRegistry.typeOf(id) == requestData.getClass() ? id : TypeRegistry.idOf(requestData.getClass());
+		MethodHandle handler = typeId == TypeRegistry.UNKNOWN ? null : table[index(typeId, method)];
+		if (handler == null) {
+			throw new OperationException("No handler for " + method + " " + requestData.getClass().getSimpleName() + ".");
+		}
+
+		long start = metrics == null ? 0 : System.nanoTime();
+		String error = null;
+		try {
+			return (Object) handler.invokeExact(requestData, transfer);
+		} catch (Exception | Error ex) {
+			error = ex.getClass().getSimpleName();
+			throw ex;
+		} catch (Throwable ex) {
+			error = ex.getClass().getSimpleName();
+			throw new IllegalStateException(ex);
+		} finally {
+			if (metrics != null) {
+				metrics.record(requestData.getClass(), MetricStage.DISPATCH, System.nanoTime() - start, error);
+			}
+		}
+	}
+
+	private static int index(int typeId, RestMethod method) {
+		return typeId * METHODS + method.ordinal();
+	}
+
+	/**
+	 * Collects handler instances and required bindings.
+	 */
+	public static final class Builder {
+		private final List<Object> handlers = new ArrayList<>();
+		private final List<Binding> required = new ArrayList<>();
+		private ValidationMetrics metrics;
+
+		private Builder() {
+		}
+
+		/**
+		 * Adds an object whose {@link Processable} methods become bindings.
+		 *
+		 * @param handler the handler instance.
+		 * @return this builder.
+		 */
+		public Builder handler(Object handler) {
+			handlers.add(handler);
+			return this;
+		}
+
+		/**
+		 * Declares a binding that must be provided by one of the handlers.
+		 *
+		 * @param type   the DTO type.
+		 * @param method the REST method.
+		 * @return this builder.
+		 */
+		public Builder require(Class<?> type, RestMethod method) {
+			required.add(new Binding(type, method));
+			return this;
+		}
+
+		/**
+		 * Records the latency and outcome of every dispatch.
+		 *
+		 * @param metrics the metrics.
+		 * @return this builder.
+		 */
+		public Builder metrics(ValidationMetrics metrics) {
+			this.metrics = metrics;
+			return this;
+		}
+
+		/**
+		 * Scans the handlers and builds the dispatch table.
+		 *
+		 * @return the dispatcher.
+		 * @throws IllegalStateException if a binding is invalid, conflicting or missing.
+		 */
+		public ProcessableDispatcher build() {
+			MethodHandle[] table = new MethodHandle[(TypeRegistry.size() + 1) * METHODS];
+			Method[] sources = new Method[table.length];
+			List<String> errors = new ArrayList<>();
+
+			for (Object handler : handlers) {
+				Set<String> overridden = new HashSet<>();
+				for (Class<?> type = handler.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+					for (Method method : type.getDeclaredMethods()) {
+						// Subclass methods are visited first and replace the methods they override
+						boolean overriding = !overridden.add(method.getName() + Arrays.toString(method.getParameterTypes()));
+						Processable[] bindings = method.getAnnotationsByType(Processable.class);
+						if (bindings.length == 0 || method.isBridge() || overriding) {
+							continue;
+						}
+
+						String error = checkSignature(method);
+						if (error != null) {
+							errors.add(describe(method) + ": " + error);
+							continue;
+						}
+
+						MethodHandle bound = bind(handler, method);
+						int typeId = TypeRegistry.idOf(method.getParameterTypes()[0]);
+						for (Processable binding : bindings) {
+							int index = index(typeId, binding.method());
+							if (sources[index] != null) {
+								errors.add("Conflicting handlers for " + binding.method() + " " + method.getParameterTypes()[0].getSimpleName() + ": "
+										+ describe(sources[index]) + " and " + describe(method));
+							} else {
+								table[index] = bound;
+								sources[index] = method;
+							}
+						}
+					}
+				}
+			}
+
+			for (Binding binding : required) {
+				int typeId = TypeRegistry.idOf(binding.type());
+				if (typeId == TypeRegistry.UNKNOWN || table[index(typeId, binding.method())] == null) {
+					errors.add("Missing handler for " + binding.method() + " " + binding.type().getSimpleName());
+				}
+			}
+
+			if (!errors.isEmpty()) {
+				throw new IllegalStateException("Invalid @Processable bindings:\n  " + String.join("\n  ", errors));
+			}
+			return new ProcessableDispatcher(table, metrics);
+		}
+
+		private static String checkSignature(Method method) {
+			Class<?>[] parameters = method.getParameterTypes();
+			if (Modifier.isStatic(method.getModifiers())) {
+				return "handler methods must not be static";
+			} else if (parameters.length == 0 || parameters.length > 2 || (parameters.length == 2 && parameters[1] != DataTransfer.class)) {
+				return "expected (Dto) or (Dto, DataTransfer) parameters";
+			} else if (TypeRegistry.idOf(parameters[0]) == TypeRegistry.UNKNOWN) {
+				return parameters[0].getName() + " is not registered in TypeRegistry";
+			}
+			return null;
+		}
+
+		private static MethodHandle bind(Object handler, Method method) {
+			MethodHandle handle;
+			try {
+				method.trySetAccessible();
+				handle = MethodHandles.lookup().unreflect(method).bindTo(handler);
+			} catch (IllegalAccessException ex) {
+				throw new IllegalStateException("Cannot access handler " + describe(method), ex);
+			}
+
+			if (method.getParameterCount() == 1) {
+				handle = MethodHandles.dropArguments(handle, 1, DataTransfer.class);
+			}
+			return handle.asType(HANDLER_TYPE);
+		}
+
+		private static String describe(Method method) {
+			return method.getDeclaringClass().getName() + "." + method.getName();
+		}
+
+		private record Binding(Class<?> type, RestMethod method) {
+		}
+	}
+}
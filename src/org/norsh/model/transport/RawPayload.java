@@ -0,0 +1,31 @@
+package org.norsh.model.transport;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Request data kept in its encoded form until it is first accessed.
+ * <p>
+ * Routing nodes that only inspect the envelope of a {@link DataTransfer} never decode the payload, and forward the
+ * original bytes unchanged. {@link DataTransfer#getRequestData()} decodes it transparently on first access.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DataTransfer#getRawRequestData()
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public interface RawPayload {
+	/**
+	 * Returns the encoded payload.
+	 *
+	 * @return a read-only view of the bytes, positioned at the start of the payload.
+	 */
+	ByteBuffer bytes();
+
+	/**
+	 * Decodes the payload.
+	 *
+	 * @return the decoded request data.
+	 */
+	Object decode();
+}
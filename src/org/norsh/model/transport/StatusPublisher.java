@@ -0,0 +1,421 @@
+package org.norsh.model.transport;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.norsh.exceptions.OperationStatus;
+
+/**
+ * Pushes the status transitions of {@link DataTransfer} requests to {@link Flow.Subscriber}s, keyed by
+ * {@code requestId}.
+ * <p>
+ * Workers call {@link #publish(DataTransfer)} on every status change; subscribers receive the
+ * {@link DataTransfer#toResponse()} envelope of each change, and {@code onComplete} after the first status other than
+ * {@link OperationStatus#PROCESSING}. A new subscriber immediately receives the latest status of the request, so it
+ * never misses a transition that happened before it subscribed, including a final one that is still retained.
+ * </p>
+ *
+ * <h2>Back-Pressure:</h2>
+ * <p>
+ * A status is a state rather than an event log: each subscription holds only the latest undelivered envelope, which
+ * is replaced by newer ones until the subscriber requests it. Publishing never blocks a worker and uses constant
+ * memory per subscriber, and the final envelope is always the last one delivered. Signals run on the executor, one
+ * subscription at a time.
+ * </p>
+ *
+ * <h2>Retention:</h2>
+ * <p>
+ * Completed requests keep their final envelope for late subscribers, up to {@code retained} requests, after which
+ * the oldest are forgotten.
+ * </p>
+ * <p>
+ * Requests without a final status are forgotten once nothing was published nor subscribed for {@code openTimeout},
+ * completing their subscribers without a final status as {@link #remove(String)} does. The check runs at most once
+ * per timeout, from {@link #publish(DataTransfer)} and {@link #subscribe(String, Flow.Subscriber)}. A request that
+ * holds no status is also forgotten as soon as its last subscription is cancelled.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * // Worker
+ * transfer.setStatus(OperationStatus.OK);
+ * transfer.setResponseData(result);
+ * publisher.publish(transfer);
+ *
+ * // API node
+ * publisher.subscribe(requestId, subscriber);
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DataTransfer
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class StatusPublisher implements AutoCloseable {
+	/** Default number of completed requests kept for late subscribers. */
+	public static final int DEFAULT_RETAINED = 10_000;
+
+	/** Default time after which a request without a final status and without activity is forgotten. */
+	public static final Duration DEFAULT_OPEN_TIMEOUT = Duration.ofMinutes(10);
+
+	private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+	private final Queue<Channel> completed = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger completedCount = new AtomicInteger();
+	private final Executor executor;
+	private final int retained;
+	private final long openNanos;
+	private final LongSupplier clock;
+	private final AtomicLong nextSweep;
+
+	/**
+	 * Creates a publisher signaling on the common fork-join pool.
+	 */
+	public StatusPublisher() {
+		this(ForkJoinPool.commonPool(), DEFAULT_RETAINED);
+	}
+
+	/**
+	 * Creates a publisher forgetting inactive requests after {@link #DEFAULT_OPEN_TIMEOUT}.
+	 *
+	 * @param executor the executor running the subscriber signals.
+	 * @param retained the number of completed requests kept for late subscribers.
+	 */
+	public StatusPublisher(Executor executor, int retained) {
+		this(executor, retained, DEFAULT_OPEN_TIMEOUT);
+	}
+
+	/**
+	 * Creates a publisher.
+	 *
+	 * @param executor    the executor running the subscriber signals.
+	 * @param retained    the number of completed requests kept for late subscribers.
+	 * @param openTimeout how long a request without a final status is kept without activity.
+	 */
+	public StatusPublisher(Executor executor, int retained, Duration openTimeout) {
+		this(executor, retained, openTimeout, System::nanoTime);
+	}
+
+	StatusPublisher(Executor executor, int retained, Duration openTimeout, LongSupplier clock) {
+		if (retained < 0) {
+			throw new IllegalArgumentException("Invalid retained: must not be negative.");
+		} else if (openTimeout.isNegative() || openTimeout.isZero()) {
+			throw new IllegalArgumentException("Invalid open timeout: must be greater than zero.");
+		}
+		this.executor = executor;
+		this.retained = retained;
+		this.openNanos = openTimeout.toNanos();
+		this.clock = clock;
+		this.nextSweep = new AtomicLong(clock.getAsLong() + openNanos);
+	}
+
+	/**
+	 * Publishes the current status of a request.
+	 *
+	 * @param transfer the request, with its {@code requestId} and {@code status} set.
+	 */
+	public void publish(DataTransfer transfer) {
+		String requestId = transfer.getRequestId();
+		if (requestId == null) {
+			throw new IllegalArgumentException("Invalid request: The 'requestId' field is required.");
+		}
+
+		long now = clock.getAsLong();
+		sweep(now);
+
+		DataTransfer response = transfer.toResponse();
+		boolean terminal = isFinal(transfer.getStatus());
+		Channel channel;
+		Published published;
+		do {
+			channel = channels.computeIfAbsent(requestId, key -> new Channel(key, now));
+		} while ((published = channel.publish(response, terminal, now)) == Published.RETRY);
+
+		if (published == Published.COMPLETED) {
+			completed.add(channel);
+			if (completedCount.incrementAndGet() > retained) {
+				Channel oldest = completed.poll();
+				if (oldest != null) {
+					completedCount.decrementAndGet();
+					channels.remove(oldest.requestId, oldest);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Subscribes to the status of a request.
+	 *
+	 * @param requestId  the request identifier.
+	 * @param subscriber the subscriber.
+	 */
+	public void subscribe(String requestId, Flow.Subscriber<? super DataTransfer> subscriber) {
+		long now = clock.getAsLong();
+		sweep(now);
+
+		StatusSubscription subscription = new StatusSubscription(subscriber);
+		while (!channels.computeIfAbsent(requestId, key -> new Channel(key, now)).add(subscription, now)) {
+			// The channel was forgotten meanwhile; subscribe to its replacement
+		}
+		subscription.signal();
+	}
+
+	/**
+	 * Returns a publisher of the status of one request.
+	 *
+	 * @param requestId the request identifier.
+	 * @return a publisher delegating to {@link #subscribe(String, Flow.Subscriber)}.
+	 */
+	public Flow.Publisher<DataTransfer> publisher(String requestId) {
+		return subscriber -> subscribe(requestId, subscriber);
+	}
+
+	/**
+	 * Forgets a request, completing its subscribers without a final status.
+	 *
+	 * @param requestId the request identifier.
+	 */
+	public void remove(String requestId) {
+		Channel channel = channels.remove(requestId);
+		if (channel != null) {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Returns the number of requests with subscribers or a retained status.
+	 *
+	 * @return the number of tracked requests.
+	 */
+	public int size() {
+		return channels.size();
+	}
+
+	/**
+	 * Completes every subscriber and forgets all requests.
+	 */
+	@Override
+	public void close() {
+		for (String requestId : List.copyOf(channels.keySet())) {
+			remove(requestId);
+		}
+		completed.clear();
+		completedCount.set(0);
+	}
+
+	private static boolean isFinal(OperationStatus status) {
+		return status != null && status != OperationStatus.PROCESSING;
+	}
+
+	/**
+	 * Forgets the requests without a final status that were inactive for the open timeout.
+	 */
+	private void sweep(long now) {
+		long sweep = nextSweep.get();
+		if (now - sweep < 0 || !nextSweep.compareAndSet(sweep, now + openNanos)) {
+			return;
+		}
+		for (Channel channel : channels.values()) {
+			channel.expire(now);
+		}
+	}
+
+	/** Outcome of {@link Channel#publish}. */
+	private enum Published {
+		/** The channel was forgotten before the status was recorded. */
+		RETRY,
+		UPDATED,
+		COMPLETED;
+	}
+
+	/**
+	 * Latest status and subscribers of one request.
+	 */
+	private final class Channel {
+		private final String requestId;
+		private final List<StatusSubscription> subscriptions = new ArrayList<>();
+		private DataTransfer last;
+		private boolean done;
+		/** Set once the channel left the map without completing; callers then retry with a new channel. */
+		private boolean removed;
+		private long touched;
+
+		Channel(String requestId, long now) {
+			this.requestId = requestId;
+			this.touched = now;
+		}
+
+		/**
+		 * Records and forwards a status.
+		 */
+		synchronized Published publish(DataTransfer response, boolean terminal, long now) {
+			if (removed) {
+				return Published.RETRY;
+			} else if (done) {
+				return Published.UPDATED;
+			}
+
+			last = response;
+			done = terminal;
+			touched = now;
+			for (StatusSubscription subscription : subscriptions) {
+				subscription.offer(response, terminal);
+			}
+			if (terminal) {
+				subscriptions.clear();
+			}
+			return terminal ? Published.COMPLETED : Published.UPDATED;
+		}
+
+		/**
+		 * Adds a subscription, replaying the latest status.
+		 *
+		 * @return {@code false} if the channel was forgotten and the subscription was not added.
+		 */
+		synchronized boolean add(StatusSubscription subscription, long now) {
+			if (removed) {
+				return false;
+			}
+
+			subscription.channel = this;
+			touched = now;
+			if (last != null) {
+				subscription.offer(last, done);
+			}
+			if (!done) {
+				subscriptions.add(subscription);
+			}
+			return true;
+		}
+
+		synchronized void cancel(StatusSubscription subscription) {
+			subscriptions.remove(subscription);
+			if (subscriptions.isEmpty() && last == null && !done && !removed) {
+				removed = true;
+				channels.remove(requestId, this);
+			}
+		}
+
+		synchronized void expire(long now) {
+			if (!done && !removed && now - touched >= openNanos) {
+				removed = true;
+				channels.remove(requestId, this);
+				close();
+			}
+		}
+
+		synchronized void close() {
+			if (!done) {
+				done = true;
+				for (StatusSubscription subscription : subscriptions) {
+					subscription.offer(null, true);
+				}
+				subscriptions.clear();
+			}
+		}
+	}
+
+	/**
+	 * Subscription conflating undelivered statuses into the latest one.
+	 */
+	private final class StatusSubscription implements Flow.Subscription, Runnable {
+		private final Flow.Subscriber<? super DataTransfer> subscriber;
+		private final AtomicReference<DataTransfer> pending = new AtomicReference<>();
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger work = new AtomicInteger();
+		private volatile Channel channel;
+		private volatile boolean terminal;
+		private volatile boolean cancelled;
+		private volatile Throwable error;
+		private boolean subscribed;
+
+		StatusSubscription(Flow.Subscriber<? super DataTransfer> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		void offer(DataTransfer response, boolean last) {
+			if (response != null) {
+				pending.set(response);
+			}
+			if (last) {
+				terminal = true;
+			}
+			signal();
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				error = new IllegalArgumentException("Invalid request: demand must be greater than zero, was " + n + ".");
+			} else {
+				demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+			}
+			signal();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			Channel current = channel;
+			if (current != null) {
+				current.cancel(this);
+			}
+		}
+
+		void signal() {
+			if (work.getAndIncrement() == 0) {
+				executor.execute(this);
+			}
+		}
+
+		@Override
+		public void run() {
+			do {
+				try {
+					drain();
+				} catch (RuntimeException ex) {
+					// A subscriber that throws is considered cancelled
+					cancel();
+				}
+			} while (work.decrementAndGet() != 0);
+		}
+
+		private void drain() {
+			if (!subscribed) {
+				subscribed = true;
+				subscriber.onSubscribe(this);
+			}
+			if (cancelled) {
+				pending.set(null);
+				return;
+			} else if (error != null) {
+				cancel();
+				subscriber.onError(error);
+				return;
+			}
+
+			if (demand.get() > 0) {
+				DataTransfer response = pending.getAndSet(null);
+				if (response != null) {
+					demand.decrementAndGet();
+					subscriber.onNext(response);
+				}
+			}
+			if (terminal && pending.get() == null && !cancelled) {
+				cancelled = true;
+				subscriber.onComplete();
+			}
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package org.norsh.model.transport;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.norsh.model.dtos.DistributedDto;
+import org.norsh.model.dtos.crypto.AddressApiV1GenerateDto;
+import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
+import org.norsh.model.dtos.elements.ElementCreateDto;
+import org.norsh.model.dtos.elements.ElementGetDto;
+import org.norsh.model.dtos.elements.ElementMetadataDto;
+import org.norsh.model.dtos.elements.ElementNetworkDto;
+import org.norsh.model.dtos.elements.ElementPolicyDto;
+import org.norsh.model.dtos.elements.TreasuryInfoDto;
+import org.norsh.model.dtos.transactions.PaymentCreateDto;
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.dtos.transactions.TransactionGetDto;
+
+/**
+ * Stable integer ids of the DTO classes exchanged through {@link DataTransfer}.
+ * <p>
+ * Each class of {@code org.norsh.model.dtos} is assigned a small id by its position in {@link #TYPES}, starting at
+ * {@code 1}; {@link #UNKNOWN} ({@code 0}) marks classes outside the registry. Consumers resolve an id with a single
+ * array lookup instead of loading a class from its name for every message.
+ * </p>
+ * <p>
+ * Ids travel between services, so {@link #TYPES} is append-only: new DTOs go at the end and existing entries are never
+ * reordered or removed.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * Class&lt;?&gt; type = TypeRegistry.typeOf(transfer.getRequestTypeId());
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DataTransfer
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class TypeRegistry {
+	/** Id of classes that are not registered. */
+	public static final int UNKNOWN = 0;
+
+	/** Registered classes, in id order starting at {@code 1}. Append-only. */
+	public static final List<Class<?>> TYPES = List.of(
+			DistributedDto.class,
+			CryptoSignedAbstractDto.class,
+			AddressApiV1GenerateDto.class,
+			TransactionCreateDto.class,
+			PaymentCreateDto.class,
+			TransactionGetDto.class,
+			ElementCreateDto.class,
+			ElementGetDto.class,
+			ElementMetadataDto.class,
+			ElementNetworkDto.class,
+			ElementPolicyDto.class,
+			TreasuryInfoDto.class);
+
+	private static final Class<?>[] BY_ID = new Class<?>[TYPES.size() + 1];
+	private static final Map<String, Integer> BY_NAME = new HashMap<>();
+
+	private static final ClassValue<Integer> IDS = new ClassValue<>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			return BY_NAME.getOrDefault(type.getCanonicalName(), UNKNOWN);
+		}
+	};
+
+	static {
+		for (int i = 0; i < TYPES.size(); i++) {
+			Class<?> type = TYPES.get(i);
+			BY_ID[i + 1] = type;
+			BY_NAME.put(type.getCanonicalName(), i + 1);
+		}
+	}
+
+	private TypeRegistry() {
+	}
+
+	/**
+	 * Returns the id of a class.
+	 *
+	 * @param type the class.
+	 * @return the id, or {@link #UNKNOWN} if the class is not registered.
+	 */
+	public static int idOf(Class<?> type) {
+		return IDS.get(type);
+	}
+
+	/**
+	 * Returns the id of a class from its canonical name, for messages that only carry the name.
+	 *
+	 * @param canonicalName the canonical class name.
+	 * @return the id, or {@link #UNKNOWN} if the class is not registered.
+	 */
+	public static int idOf(String canonicalName) {
+		return canonicalName == null ? UNKNOWN : BY_NAME.getOrDefault(canonicalName, UNKNOWN);
+	}
+
+	/**
+	 * Returns the class registered under an id.
+	 *
+	 * @param id the id.
+	 * @return the class, or {@code null} if the id is not registered.
+	 */
+	public static Class<?> typeOf(int id) {
+		return id > UNKNOWN && id < BY_ID.length ? BY_ID[id] : null;
+	}
+
+	/**
+	 * Returns the number of registered classes, which is also the highest id.
+	 *
+	 * @return the number of registered classes.
+	 */
+	public static int size() {
+		return TYPES.size();
+	}
+}
@@ -0,0 +1,131 @@
+package org.norsh.model.transport.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.norsh.model.hashing.CanonicalHasher;
+
+/**
+ * Reads the primitive encodings written by {@link BinaryWriter} from a {@link ByteBuffer}.
+ * <p>
+ * Lengths read from the wire are checked against the remaining bytes before anything is allocated, so truncated or
+ * hostile frames fail with an {@link IllegalArgumentException} instead of large allocations.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see BinaryWriter
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class BinaryReader {
+	private final ByteBuffer buffer;
+
+	public BinaryReader(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Returns the underlying buffer, positioned after the last read byte.
+	 *
+	 * @return the buffer.
+	 */
+	public ByteBuffer buffer() {
+		return buffer;
+	}
+
+	public int readByte() {
+		return buffer.get() & 0xff;
+	}
+
+	public long readVarLong() {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7f) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint.");
+	}
+
+	public long readZigZag() {
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	public int readInt() {
+		return buffer.getInt();
+	}
+
+	/**
+	 * Returns the next {@code length} bytes as a read-only view sharing the frame memory, and skips them.
+	 */
+	public ByteBuffer readSlice(int length) {
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Malformed frame: truncated value.");
+		}
+		ByteBuffer slice = buffer.slice(buffer.position(), length).asReadOnlyBuffer();
+		buffer.position(buffer.position() + length);
+		return slice;
+	}
+
+	public double readDouble() {
+		return buffer.getDouble();
+	}
+
+	public byte[] readBytes() {
+		byte[] value = new byte[readLength()];
+		buffer.get(value);
+		return value;
+	}
+
+	public String readString() {
+		int length = readLength();
+		if (buffer.hasArray()) {
+			String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+			buffer.position(buffer.position() + length);
+			return value;
+		}
+
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	public String readHash() {
+		return readTag() == BinaryWriter.TAG_RAW ? CanonicalHasher.toHex(readRaw(32)) : readString();
+	}
+
+	public String readHex() {
+		return readTag() == BinaryWriter.TAG_RAW ? CanonicalHasher.toHex(readBytes()) : readString();
+	}
+
+	/**
+	 * Reads {@code length} raw bytes.
+	 */
+	public byte[] readRaw(int length) {
+		if (length > buffer.remaining()) {
+			throw new IllegalArgumentException("Malformed frame: truncated value.");
+		}
+		byte[] value = new byte[length];
+		buffer.get(value);
+		return value;
+	}
+
+	int readTag() {
+		int tag = readByte();
+		if (tag != BinaryWriter.TAG_RAW && tag != BinaryWriter.TAG_TEXT) {
+			throw new IllegalArgumentException("Malformed frame: unknown tag " + tag + ".");
+		}
+		return tag;
+	}
+
+	private int readLength() {
+		long length = readVarLong();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Malformed frame: length " + length + " exceeds the remaining " + buffer.remaining() + " bytes.");
+		}
+		return (int) length;
+	}
+}
@@ -0,0 +1,175 @@
+package org.norsh.model.transport.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Ordered field layout of a DTO in the binary wire format.
+ * <p>
+ * An encoded object starts with a varint presence bitmap (bit {@code i} set when field {@code i} is not {@code null}),
+ * followed by the present fields in schema order. Fields are addressed by position, so a schema may only grow by
+ * appending fields; existing fields must never be reordered or removed.
+ * </p>
+ * <p>
+ * Fields appended after {@link Builder#extensions()} are written behind a four-byte length. A reader whose schema
+ * ends before them skips every unknown trailing field by that length, so older readers keep decoding messages of
+ * newer writers.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * BinarySchema&lt;TransactionGetDto&gt; schema = BinarySchema.builder(TransactionGetDto.class, TransactionGetDto::new)
+ *     .field(DistributedDto::getRequestId, DistributedDto::setRequestId, ValueCodec.HASH)
+ *     .field(TransactionGetDto::getId, TransactionGetDto::setId, ValueCodec.HASH)
+ *     .build();
+ * </pre>
+ *
+ * @param <T> the DTO type.
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DtoSchemas
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class BinarySchema<T> implements ValueCodec<T> {
+	/** Maximum number of fields, bounded by the presence bitmap. */
+	public static final int MAX_FIELDS = 64;
+
+	private final Class<T> type;
+	private final Supplier<T> factory;
+	private final Field<T>[] fields;
+	private final int extensions;
+
+	private BinarySchema(Class<T> type, Supplier<T> factory, Field<T>[] fields, int extensions) {
+		this.type = type;
+		this.factory = factory;
+		this.fields = fields;
+		this.extensions = extensions;
+	}
+
+	public static <T> Builder<T> builder(Class<T> type, Supplier<T> factory) {
+		return new Builder<>(type, factory);
+	}
+
+	public Class<T> getType() {
+		return type;
+	}
+
+	@Override
+	public void write(BinaryWriter out, T value) {
+		long presence = 0;
+		for (int i = 0; i < fields.length; i++) {
+			if (fields[i].isPresent(value)) {
+				presence |= 1L << i;
+			}
+		}
+
+		out.writeVarLong(presence);
+		for (int i = 0; i < fields.length; i++) {
+			if ((presence & (1L << i)) == 0) {
+				continue;
+			} else if (i < extensions) {
+				fields[i].write(out, value);
+			} else {
+				int length = out.reserveInt();
+				int start = out.buffer().position();
+				fields[i].write(out, value);
+				out.patchInt(length, out.buffer().position() - start);
+			}
+		}
+	}
+
+	@Override
+	public T read(BinaryReader in) {
+		long presence = in.readVarLong();
+		T value = factory.get();
+		for (int i = 0; i < fields.length; i++) {
+			if ((presence & (1L << i)) == 0) {
+				continue;
+			} else if (i >= extensions) {
+				in.readInt();
+			}
+			fields[i].read(in, value);
+		}
+
+		// Trailing fields appended by a newer writer
+		long unknown = fields.length < MAX_FIELDS ? presence >>> fields.length : 0;
+		for (int i = Long.bitCount(unknown); i > 0; i--) {
+			in.readSlice(in.readInt());
+		}
+		return value;
+	}
+
+	/**
+	 * A field of a schema, for layouts that do not map to a single getter and setter.
+	 *
+	 * @param <T> the DTO type.
+	 */
+	public interface Field<T> {
+		boolean isPresent(T dto);
+
+		void write(BinaryWriter out, T dto);
+
+		void read(BinaryReader in, T dto);
+	}
+
+	public static final class Builder<T> {
+		private final Class<T> type;
+		private final Supplier<T> factory;
+		private final List<Field<T>> fields = new ArrayList<>();
+		private int extensions = MAX_FIELDS;
+
+		private Builder(Class<T> type, Supplier<T> factory) {
+			this.type = type;
+			this.factory = factory;
+		}
+
+		public <V> Builder<T> field(Function<? super T, V> getter, BiConsumer<? super T, V> setter, ValueCodec<V> codec) {
+			return field(new Field<T>() {
+				@Override
+				public boolean isPresent(T dto) {
+					return getter.apply(dto) != null;
+				}
+
+				@Override
+				public void write(BinaryWriter out, T dto) {
+					codec.write(out, getter.apply(dto));
+				}
+
+				@Override
+				public void read(BinaryReader in, T dto) {
+					setter.accept(dto, codec.read(in));
+				}
+			});
+		}
+
+		/**
+		 * Marks the following fields as extensions, appended to a schema that older readers already decode. Each
+		 * extension is written behind its length so those readers can skip it.
+		 *
+		 * @return this builder.
+		 */
+		public Builder<T> extensions() {
+			if (extensions != MAX_FIELDS) {
+				throw new IllegalStateException("Extensions already started: " + type.getName());
+			}
+			extensions = fields.size();
+			return this;
+		}
+
+		public Builder<T> field(Field<T> field) {
+			if (fields.size() == MAX_FIELDS) {
+				throw new IllegalStateException("A schema supports at most " + MAX_FIELDS + " fields: " + type.getName());
+			}
+			fields.add(field);
+			return this;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public BinarySchema<T> build() {
+			return new BinarySchema<>(type, factory, fields.toArray(new Field[0]), extensions);
+		}
+	}
+}
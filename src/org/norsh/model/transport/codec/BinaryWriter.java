@@ -0,0 +1,227 @@
+package org.norsh.model.transport.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import org.norsh.model.validation.Checks;
+
+/**
+ * Writes the primitive encodings of the binary wire format into a {@link ByteBuffer}.
+ *
+ * <h2>Encodings:</h2>
+ * <ul>
+ *   <li>Unsigned integers: LEB128 varints (7 bits per byte).</li>
+ *   <li>Signed integers: ZigZag followed by a varint.</li>
+ *   <li>Strings: varint UTF-8 length followed by the UTF-8 bytes.</li>
+ *   <li>Hashes: a tag byte, then either 32 raw bytes (lowercase 64-character hex) or a string.</li>
+ *   <li>Hexadecimal values: a tag byte, then either the raw bytes (lowercase even-length hex) or a string.</li>
+ * </ul>
+ * <p>
+ * Hash and hexadecimal values that cannot be packed without loss (uppercase digits, odd length or any other text) are
+ * written as strings, so decoding always restores the original value.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see BinaryReader
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class BinaryWriter {
+	static final int TAG_RAW = 0;
+	static final int TAG_TEXT = 1;
+
+	private ByteBuffer buffer;
+	private final boolean growable;
+
+	/**
+	 * Creates a writer over a caller-provided buffer. Writing past its limit raises a {@link BufferOverflowException}.
+	 *
+	 * @param buffer the target buffer.
+	 */
+	public BinaryWriter(ByteBuffer buffer) {
+		this.buffer = buffer;
+		this.growable = false;
+	}
+
+	/**
+	 * Creates a writer over a heap buffer that grows as needed.
+	 *
+	 * @param initialCapacity the initial capacity of the buffer.
+	 */
+	public BinaryWriter(int initialCapacity) {
+		this.buffer = ByteBuffer.allocate(initialCapacity);
+		this.growable = true;
+	}
+
+	/**
+	 * Returns the underlying buffer, positioned after the last written byte.
+	 *
+	 * @return the buffer.
+	 */
+	public ByteBuffer buffer() {
+		return buffer;
+	}
+
+	public BinaryWriter writeByte(int value) {
+		ensure(1);
+		buffer.put((byte) value);
+		return this;
+	}
+
+	public BinaryWriter writeVarLong(long value) {
+		ensure(10);
+		while ((value & ~0x7fL) != 0) {
+			buffer.put((byte) ((value & 0x7f) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+		return this;
+	}
+
+	public BinaryWriter writeZigZag(long value) {
+		return writeVarLong((value << 1) ^ (value >> 63));
+	}
+
+	/**
+	 * Reserves four bytes for a length that is only known after the following value is written.
+	 *
+	 * @return the position to pass to {@link #patchInt(int, int)}.
+	 */
+	public int reserveInt() {
+		ensure(4);
+		int position = buffer.position();
+		buffer.putInt(0);
+		return position;
+	}
+
+	public BinaryWriter patchInt(int position, int value) {
+		buffer.putInt(position, value);
+		return this;
+	}
+
+	public BinaryWriter writeDouble(double value) {
+		ensure(8);
+		buffer.putDouble(value);
+		return this;
+	}
+
+	public BinaryWriter writeBytes(byte[] value) {
+		writeVarLong(value.length);
+		return writeRaw(value, 0, value.length);
+	}
+
+	public BinaryWriter writeRaw(ByteBuffer value) {
+		ensure(value.remaining());
+		buffer.put(value);
+		return this;
+	}
+
+	public BinaryWriter writeRaw(byte[] value, int offset, int length) {
+		ensure(length);
+		buffer.put(value, offset, length);
+		return this;
+	}
+
+	/**
+	 * Writes a string as its UTF-8 length followed by its UTF-8 bytes, encoded straight into the buffer.
+	 */
+	public BinaryWriter writeString(String value) {
+		int length = value.length();
+		int size = utf8Length(value);
+		writeVarLong(size);
+		ensure(size);
+
+		// ASCII prefix; a lone surrogate also takes one byte, so the lengths alone cannot select this path
+		int i = 0;
+		for (char c; i < length && (c = value.charAt(i)) < 0x80; i++) {
+			buffer.put((byte) c);
+		}
+
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) {
+				buffer.put((byte) c);
+			} else if (c < 0x800) {
+				buffer.put((byte) (0xc0 | (c >> 6))).put((byte) (0x80 | (c & 0x3f)));
+			} else if (!Character.isSurrogate(c)) {
+				buffer.put((byte) (0xe0 | (c >> 12))).put((byte) (0x80 | ((c >> 6) & 0x3f))).put((byte) (0x80 | (c & 0x3f)));
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				buffer.put((byte) (0xf0 | (codePoint >> 18))).put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+				buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3f))).put((byte) (0x80 | (codePoint & 0x3f)));
+			} else {
+				buffer.put((byte) '?');
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Writes a 64-character lowercase hexadecimal hash as 32 raw bytes, or any other value as a string.
+	 */
+	public BinaryWriter writeHash(String value) {
+		if (!Checks.isHex(value, 64, false)) {
+			writeByte(TAG_TEXT);
+			return writeString(value);
+		}
+
+		writeByte(TAG_RAW);
+		return writePackedHex(value);
+	}
+
+	/**
+	 * Writes a lowercase even-length hexadecimal value as raw bytes, or any other value as a string.
+	 */
+	public BinaryWriter writeHex(String value) {
+		int length = value.length();
+		if ((length & 1) != 0 || !Checks.isHex(value, length, false)) {
+			writeByte(TAG_TEXT);
+			return writeString(value);
+		}
+
+		writeByte(TAG_RAW);
+		writeVarLong(length >> 1);
+		return writePackedHex(value);
+	}
+
+	private BinaryWriter writePackedHex(String value) {
+		int size = value.length() >> 1;
+		ensure(size);
+		for (int i = 0; i < size; i++) {
+			buffer.put((byte) (Character.digit(value.charAt(i << 1), 16) << 4 | Character.digit(value.charAt((i << 1) + 1), 16)));
+		}
+		return this;
+	}
+
+	private void ensure(int size) {
+		if (buffer.remaining() >= size) {
+			return;
+		} else if (!growable) {
+			throw new BufferOverflowException();
+		}
+
+		ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() << 1, buffer.position() + size));
+		buffer.flip();
+		grown.put(buffer);
+		buffer = grown;
+	}
+
+	private static int utf8Length(String value) {
+		int length = value.length();
+		int size = length;
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= 0x80) {
+				if (c < 0x800) {
+					size++;
+				} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+					size += 2;
+					i++;
+				} else if (!Character.isSurrogate(c)) {
+					size += 2;
+				}
+			}
+		}
+		return size;
+	}
+}
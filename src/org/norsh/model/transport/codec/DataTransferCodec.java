@@ -0,0 +1,327 @@
+package org.norsh.model.transport.codec;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.norsh.exceptions.OperationStatus;
+import org.norsh.model.transport.DataTransfer;
+import org.norsh.model.transport.RawPayload;
+import org.norsh.model.transport.TypeRegistry;
+import org.norsh.rest.RestMethod;
+
+/**
+ * Compact binary encoding of {@link DataTransfer} envelopes, as an alternative to JSON between Norsh services.
+ *
+ * <h2>Frame Layout:</h2>
+ * <ul>
+ *   <li>Version byte ({@link #VERSION}).</li>
+ *   <li>Varint presence bitmap of the envelope fields.</li>
+ *   <li>{@code requestId} (packed hash), {@code method} (name), {@code requestClassName} and {@code requestTypeId}
+ *   (each only when it differs from the class of {@code requestData}), {@code requestData} (prefixed with its
+ *   4-byte length), {@code responseData}, {@code message} and {@code status} (name).</li>
+ * </ul>
+ * <p>
+ * {@code requestData} and {@code responseData} are written as tagged values: a DTO with a schema in
+ * {@link DtoSchemas} (its {@link TypeRegistry} id followed by its fields), or a string, long, integer, decimal or
+ * boolean. Other types
+ * are rejected with an {@link IllegalArgumentException} and must keep using JSON. Enums from {@code org.norsh:common}
+ * are written by name, so the frame does not depend on their declaration order.
+ * </p>
+ *
+ * <h2>Routing Nodes:</h2>
+ * <p>
+ * {@link #decode(ByteBuffer, boolean)} with {@code lazy} set keeps {@code requestData} as a {@link RawPayload} slice
+ * of the inbound frame; only its type is read, to fill in {@code requestClassName} and {@code requestTypeId}. It is
+ * decoded on the first call to {@link DataTransfer#getRequestData()}. Until then, encoding the envelope copies the
+ * original payload bytes instead of serializing the object again.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * ByteBuffer frame = DataTransferCodec.encode(new DataTransfer(requestId, RestMethod.POST, dto));
+ * DataTransfer transfer = DataTransferCodec.decode(frame);
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DtoSchemas
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class DataTransferCodec {
+	/** Version of the frame layout. */
+	public static final int VERSION = 2;
+
+	private static final int REQUEST_ID = 1;
+	private static final int METHOD = 1 << 1;
+	private static final int REQUEST_CLASS_NAME = 1 << 2;
+	private static final int REQUEST_DATA = 1 << 3;
+	private static final int RESPONSE_DATA = 1 << 4;
+	private static final int MESSAGE = 1 << 5;
+	private static final int STATUS = 1 << 6;
+	private static final int REQUEST_TYPE_ID = 1 << 7;
+
+	private static final int VALUE_DTO = 0;
+	private static final int VALUE_STRING = 1;
+	private static final int VALUE_LONG = 2;
+	private static final int VALUE_INTEGER = 3;
+	private static final int VALUE_DECIMAL = 4;
+	private static final int VALUE_BOOLEAN = 5;
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	private DataTransferCodec() {
+	}
+
+	/**
+	 * Encodes the envelope into a new heap buffer.
+	 *
+	 * @param transfer the envelope to encode.
+	 * @return the frame, flipped and ready to be read.
+	 * @throws IllegalArgumentException if a payload has no binary encoding.
+	 */
+	public static ByteBuffer encode(DataTransfer transfer) {
+		BinaryWriter out = new BinaryWriter(INITIAL_CAPACITY);
+		write(out, transfer);
+		return out.buffer().flip();
+	}
+
+	/**
+	 * Encodes the envelope into the given buffer, starting at its position.
+	 *
+	 * @param transfer the envelope to encode.
+	 * @param target   the target buffer, positioned after the frame on return.
+	 * @throws java.nio.BufferOverflowException if the buffer is too small.
+	 * @throws IllegalArgumentException         if a payload has no binary encoding.
+	 */
+	public static void encode(DataTransfer transfer, ByteBuffer target) {
+		write(new BinaryWriter(target), transfer);
+	}
+
+	/**
+	 * Decodes an envelope, advancing the buffer position past the frame.
+	 *
+	 * @param source the buffer holding the frame.
+	 * @return the decoded envelope.
+	 * @throws IllegalArgumentException if the frame is malformed or uses an unknown version or DTO.
+	 */
+	public static DataTransfer decode(ByteBuffer source) {
+		return decode(source, false);
+	}
+
+	/**
+	 * Decodes an envelope, advancing the buffer position past the frame.
+	 *
+	 * @param source the buffer holding the frame; with {@code lazy} set, it must not be modified while the request
+	 *               data is still encoded.
+	 * @param lazy   {@code true} to keep the request data as a {@link RawPayload} view of {@code source}.
+	 * @return the decoded envelope.
+	 * @throws IllegalArgumentException if the frame is malformed or uses an unknown version or DTO.
+	 */
+	public static DataTransfer decode(ByteBuffer source, boolean lazy) {
+		BinaryReader in = new BinaryReader(source);
+		int version = in.readByte();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Malformed frame: unsupported version " + version + ".");
+		}
+
+		long presence = in.readVarLong();
+		DataTransfer transfer = new DataTransfer();
+		if ((presence & REQUEST_ID) != 0) {
+			transfer.setRequestId(in.readHash());
+		}
+		if ((presence & METHOD) != 0) {
+			transfer.setMethod(readEnum(in, RestMethod.class));
+		}
+		if ((presence & REQUEST_CLASS_NAME) != 0) {
+			transfer.setRequestClassName(in.readString());
+		}
+		if ((presence & REQUEST_TYPE_ID) != 0) {
+			transfer.setRequestTypeId(Math.toIntExact(in.readZigZag()));
+		}
+		if ((presence & REQUEST_DATA) != 0) {
+			ByteBuffer bytes = in.readSlice(in.readInt());
+			Class<?> type;
+			if (lazy) {
+				type = peekType(bytes.duplicate());
+				transfer.setRequestData(new LazyPayload(bytes));
+			} else {
+				Object requestData = readValue(new BinaryReader(bytes));
+				type = requestData.getClass();
+				transfer.setRequestData(requestData);
+			}
+			if ((presence & REQUEST_CLASS_NAME) == 0) {
+				transfer.setRequestClassName(type.getCanonicalName());
+			}
+			if ((presence & REQUEST_TYPE_ID) == 0) {
+				transfer.setRequestTypeId(typeId(type));
+			}
+		}
+		if ((presence & RESPONSE_DATA) != 0) {
+			transfer.setResponseData(readValue(in));
+		}
+		if ((presence & MESSAGE) != 0) {
+			transfer.setMessage(in.readString());
+		}
+		if ((presence & STATUS) != 0) {
+			transfer.setStatus(readEnum(in, OperationStatus.class));
+		}
+		return transfer;
+	}
+
+	private static void write(BinaryWriter out, DataTransfer transfer) {
+		RawPayload raw = transfer.getRawRequestData();
+		Object requestData = raw != null ? raw : transfer.getRequestData();
+		Class<?> type = raw != null ? peekType(raw.bytes()) : requestData != null ? requestData.getClass() : null;
+		String requestClassName = transfer.getRequestClassName();
+		Integer requestTypeId = transfer.getRequestTypeId();
+		// Both are restored from the payload on decoding when they match it
+		boolean sameClassName = type != null && Objects.equals(requestClassName, type.getCanonicalName());
+		boolean sameTypeId = type != null && Objects.equals(requestTypeId, typeId(type));
+
+		int presence = (transfer.getRequestId() != null ? REQUEST_ID : 0)
+				| (transfer.getMethod() != null ? METHOD : 0)
+				| (requestClassName != null && !sameClassName ? REQUEST_CLASS_NAME : 0)
+				| (requestTypeId != null && !sameTypeId ? REQUEST_TYPE_ID : 0)
+				| (requestData != null ? REQUEST_DATA : 0)
+				| (transfer.getResponseData() != null ? RESPONSE_DATA : 0)
+				| (transfer.getMessage() != null ? MESSAGE : 0)
+				| (transfer.getStatus() != null ? STATUS : 0);
+
+		out.writeByte(VERSION).writeVarLong(presence);
+		if (transfer.getRequestId() != null) {
+			out.writeHash(transfer.getRequestId());
+		}
+		if (transfer.getMethod() != null) {
+			out.writeString(transfer.getMethod().name());
+		}
+		if ((presence & REQUEST_CLASS_NAME) != 0) {
+			out.writeString(requestClassName);
+		}
+		if ((presence & REQUEST_TYPE_ID) != 0) {
+			out.writeZigZag(requestTypeId);
+		}
+		if (raw != null) {
+			ByteBuffer bytes = raw.bytes();
+			out.patchInt(out.reserveInt(), bytes.remaining()).writeRaw(bytes);
+		} else if (requestData != null) {
+			int length = out.reserveInt();
+			writeValue(out, requestData);
+			out.patchInt(length, out.buffer().position() - length - 4);
+		}
+		if (transfer.getResponseData() != null) {
+			writeValue(out, transfer.getResponseData());
+		}
+		if (transfer.getMessage() != null) {
+			out.writeString(transfer.getMessage());
+		}
+		if (transfer.getStatus() != null) {
+			out.writeString(transfer.getStatus().name());
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void writeValue(BinaryWriter out, Object value) {
+		if (value instanceof String text) {
+			out.writeByte(VALUE_STRING).writeString(text);
+		} else if (value instanceof Long number) {
+			out.writeByte(VALUE_LONG).writeZigZag(number);
+		} else if (value instanceof Integer number) {
+			out.writeByte(VALUE_INTEGER).writeZigZag(number);
+		} else if (value instanceof BigDecimal decimal) {
+			out.writeByte(VALUE_DECIMAL);
+			ValueCodec.DECIMAL.write(out, decimal);
+		} else if (value instanceof Boolean flag) {
+			out.writeByte(VALUE_BOOLEAN).writeByte(flag ? 1 : 0);
+		} else {
+			int id = TypeRegistry.idOf(value.getClass());
+			BinarySchema schema = DtoSchemas.of(id);
+			if (schema == null) {
+				throw new IllegalArgumentException("No binary schema for " + value.getClass().getName() + ".");
+			}
+			out.writeByte(VALUE_DTO).writeVarLong(id);
+			schema.write(out, value);
+		}
+	}
+
+	private static Object readValue(BinaryReader in) {
+		int tag = in.readByte();
+		return switch (tag) {
+		case VALUE_DTO -> readDto(in);
+		case VALUE_STRING -> in.readString();
+		case VALUE_LONG -> in.readZigZag();
+		case VALUE_INTEGER -> Math.toIntExact(in.readZigZag());
+		case VALUE_DECIMAL -> ValueCodec.DECIMAL.read(in);
+		case VALUE_BOOLEAN -> in.readByte() != 0;
+		default -> throw new IllegalArgumentException("Malformed frame: unknown value tag " + tag + ".");
+		};
+	}
+
+	private static Object readDto(BinaryReader in) {
+		long id = in.readVarLong();
+		BinarySchema<?> schema = id > Integer.MAX_VALUE ? null : DtoSchemas.of((int) id);
+		if (schema == null) {
+			throw new IllegalArgumentException("Malformed frame: no binary schema for type id " + id + ".");
+		}
+		return schema.read(in);
+	}
+
+	/**
+	 * Reads the type of an encoded value without decoding it.
+	 */
+	private static Class<?> peekType(ByteBuffer bytes) {
+		BinaryReader in = new BinaryReader(bytes);
+		int tag = in.readByte();
+		return switch (tag) {
+		case VALUE_DTO -> {
+			long id = in.readVarLong();
+			Class<?> type = id > Integer.MAX_VALUE ? null : TypeRegistry.typeOf((int) id);
+			if (type == null) {
+				throw new IllegalArgumentException("Malformed frame: no binary schema for type id " + id + ".");
+			}
+			yield type;
+		}
+		case VALUE_STRING -> String.class;
+		case VALUE_LONG -> Long.class;
+		case VALUE_INTEGER -> Integer.class;
+		case VALUE_DECIMAL -> BigDecimal.class;
+		case VALUE_BOOLEAN -> Boolean.class;
+		default -> throw new IllegalArgumentException("Malformed frame: unknown value tag " + tag + ".");
+		};
+	}
+
+	private static Integer typeId(Class<?> type) {
+		int id = TypeRegistry.idOf(type);
+		return id == TypeRegistry.UNKNOWN ? null : id;
+	}
+
+	private static <E extends Enum<E>> E readEnum(BinaryReader in, Class<E> type) {
+		String name = in.readString();
+		try {
+			return Enum.valueOf(type, name);
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Malformed frame: unknown " + type.getSimpleName() + " " + name + ".");
+		}
+	}
+
+	/**
+	 * Request data left encoded in the inbound frame.
+	 */
+	private static final class LazyPayload implements RawPayload {
+		private final ByteBuffer bytes;
+
+		LazyPayload(ByteBuffer bytes) {
+			this.bytes = bytes;
+		}
+
+		@Override
+		public ByteBuffer bytes() {
+			return bytes.duplicate();
+		}
+
+		@Override
+		public Object decode() {
+			return readValue(new BinaryReader(bytes()));
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package org.norsh.model.transport.codec;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.norsh.model.dtos.DistributedDto;
+import org.norsh.model.dtos.crypto.AddressApiV1GenerateDto;
+import org.norsh.model.dtos.crypto.CryptoSignedAbstractDto;
+import org.norsh.model.dtos.elements.ElementCreateDto;
+import org.norsh.model.dtos.elements.ElementGetDto;
+import org.norsh.model.dtos.elements.ElementMetadataDto;
+import org.norsh.model.dtos.elements.ElementNetworkDto;
+import org.norsh.model.dtos.elements.ElementPolicyDto;
+import org.norsh.model.dtos.elements.TreasuryInfoDto;
+import org.norsh.model.dtos.transactions.PaymentCreateDto;
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.dtos.transactions.TransactionGetDto;
+import org.norsh.model.transport.TypeRegistry;
+import org.norsh.model.types.ElementType;
+import org.norsh.model.types.Networks;
+
+/**
+ * Binary schemas of the DTOs in {@code org.norsh.model.dtos}.
+ * <p>
+ * Inherited fields come first ({@code requestId}, then the signed fields), followed by the fields of the class in
+ * declaration order. Hashes and hexadecimal values are packed as raw bytes, {@code BigDecimal} amounts as fixed-point
+ * varints and enums as ordinals. Schemas are append-only: new fields go at the end of their DTO, after
+ * {@link BinarySchema.Builder#extensions()}, so that readers built without them can skip them.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see BinarySchema
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class DtoSchemas {
+	public static final BinarySchema<DistributedDto> DISTRIBUTED = distributed(DistributedDto.class, DistributedDto::new).build();
+
+	public static final BinarySchema<CryptoSignedAbstractDto> CRYPTO_SIGNED = signed(CryptoSignedAbstractDto.class, CryptoSignedAbstractDto::new).build();
+
+	public static final BinarySchema<AddressApiV1GenerateDto> ADDRESS_GENERATE = BinarySchema.builder(AddressApiV1GenerateDto.class, AddressApiV1GenerateDto::new)
+			.field(AddressApiV1GenerateDto::getPublicKey, AddressApiV1GenerateDto::setPublicKey, ValueCodec.HEX)
+			.build();
+
+	public static final BinarySchema<TransactionCreateDto> TRANSACTION_CREATE = signed(TransactionCreateDto.class, TransactionCreateDto::new)
+			.field(TransactionCreateDto::getTo, TransactionCreateDto::setTo, ValueCodec.HASH)
+			.field(TransactionCreateDto::getElement, TransactionCreateDto::setElement, ValueCodec.HASH)
+			.field(TransactionCreateDto::getVolume, TransactionCreateDto::setVolume, ValueCodec.STRING)
+			.field(TransactionCreateDto::getNonce, TransactionCreateDto::setNonce, ValueCodec.LONG)
+			.build();
+
+	public static final BinarySchema<PaymentCreateDto> PAYMENT_CREATE = signed(PaymentCreateDto.class, PaymentCreateDto::new)
+			.field(PaymentCreateDto::getTo, PaymentCreateDto::setTo, ValueCodec.HASH)
+			.field(PaymentCreateDto::getElement, PaymentCreateDto::setElement, ValueCodec.HASH)
+			.field(PaymentCreateDto::getVolume, PaymentCreateDto::setVolume, ValueCodec.DECIMAL)
+			.field(PaymentCreateDto::getLink, PaymentCreateDto::setLink, ValueCodec.STRING)
+			.field(PaymentCreateDto::getNonce, PaymentCreateDto::setNonce, ValueCodec.LONG)
+			.build();
+
+	public static final BinarySchema<TransactionGetDto> TRANSACTION_GET = distributed(TransactionGetDto.class, TransactionGetDto::new)
+			.field(TransactionGetDto::getId, TransactionGetDto::setId, ValueCodec.HASH)
+			.build();
+
+	public static final BinarySchema<ElementCreateDto> ELEMENT_CREATE = signed(ElementCreateDto.class, ElementCreateDto::new)
+			.field(ElementCreateDto::getType, ElementCreateDto::setType, ValueCodec.ordinal(ElementType.class))
+			.field(ElementCreateDto::getSymbol, ElementCreateDto::setSymbol, ValueCodec.STRING)
+			.field(ElementCreateDto::getDecimals, ElementCreateDto::setDecimals, ValueCodec.INTEGER)
+			.field(ElementCreateDto::getInitialSupply, ElementCreateDto::setInitialSupply, ValueCodec.LONG)
+			.field(ElementCreateDto::getTfo, ElementCreateDto::setTfo, ValueCodec.HEX)
+			.build();
+
+	public static final BinarySchema<ElementGetDto> ELEMENT_GET = distributed(ElementGetDto.class, ElementGetDto::new)
+			.field(ElementGetDto::getId, ElementGetDto::setId, ValueCodec.HASH)
+			.build();
+
+	public static final BinarySchema<ElementMetadataDto> ELEMENT_METADATA = signed(ElementMetadataDto.class, ElementMetadataDto::new)
+			.field(ElementMetadataDto::getId, ElementMetadataDto::setId, ValueCodec.HASH)
+			.field(ElementMetadataDto::getName, ElementMetadataDto::setName, ValueCodec.STRING)
+			.field(ElementMetadataDto::getLogo, ElementMetadataDto::setLogo, ValueCodec.STRING)
+			.field(ElementMetadataDto::getAbout, ElementMetadataDto::setAbout, ValueCodec.STRING)
+			.field(ElementMetadataDto::getSite, ElementMetadataDto::setSite, ValueCodec.STRING)
+			.field(ElementMetadataDto::getPolicy, ElementMetadataDto::setPolicy, ValueCodec.STRING)
+			.field(ElementMetadataDto::getTransaction, ElementMetadataDto::setTransaction, TRANSACTION_CREATE)
+			.build();
+
+	public static final BinarySchema<ElementNetworkDto> ELEMENT_NETWORK = signed(ElementNetworkDto.class, ElementNetworkDto::new)
+			.field(ElementNetworkDto::getId, ElementNetworkDto::setId, ValueCodec.HASH)
+			.field(ElementNetworkDto::getNetwork, ElementNetworkDto::setNetwork, ValueCodec.ordinal(Networks.class))
+			.field(ElementNetworkDto::getAddress, ElementNetworkDto::setAddress, ValueCodec.STRING)
+			.field(ElementNetworkDto::getTransaction, ElementNetworkDto::setTransaction, TRANSACTION_CREATE)
+			.build();
+
+	public static final BinarySchema<ElementPolicyDto> ELEMENT_POLICY = signed(ElementPolicyDto.class, ElementPolicyDto::new)
+			.field(ElementPolicyDto::getId, ElementPolicyDto::setId, ValueCodec.HASH)
+			.field(ElementPolicyDto::getTransactionTax, ElementPolicyDto::setTransactionTax, ValueCodec.DOUBLE)
+			.field(ElementPolicyDto::getFreezeDuration, ElementPolicyDto::setFreezeDuration, ValueCodec.INTEGER)
+			.field(ElementPolicyDto::getScript, ElementPolicyDto::setScript, ValueCodec.STRING)
+			.field(ElementPolicyDto::getTransaction, ElementPolicyDto::setTransaction, TRANSACTION_CREATE)
+			.build();
+
+	public static final BinarySchema<TreasuryInfoDto> TREASURY_INFO = BinarySchema.builder(TreasuryInfoDto.class, TreasuryInfoDto::new)
+			.field(TreasuryInfoDto::getId, TreasuryInfoDto::setId, ValueCodec.HASH)
+			.field(TreasuryInfoDto::getUdbn, TreasuryInfoDto::setUdbn, ValueCodec.STRING)
+			.field(TreasuryInfoDto::getSupply, TreasuryInfoDto::setSupply, ValueCodec.DECIMAL)
+			.field(TreasuryInfoDto::getCirculating, TreasuryInfoDto::setCirculating, ValueCodec.DECIMAL)
+			.field(TreasuryInfoDto::getNsh, TreasuryInfoDto::setNsh, ValueCodec.DECIMAL)
+			.field(TreasuryInfoDto::getValue, TreasuryInfoDto::setValue, ValueCodec.DECIMAL)
+			.field(TreasuryInfoDto::getTimestamp, TreasuryInfoDto::setTimestamp, ValueCodec.LONG)
+			.build();
+
+	/** All schemas. */
+	public static final List<BinarySchema<?>> ALL = List.of(
+			DISTRIBUTED, CRYPTO_SIGNED, ADDRESS_GENERATE,
+			TRANSACTION_CREATE, PAYMENT_CREATE, TRANSACTION_GET,
+			ELEMENT_CREATE, ELEMENT_GET, ELEMENT_METADATA, ELEMENT_NETWORK, ELEMENT_POLICY, TREASURY_INFO);
+
+	/** Schemas indexed by {@link TypeRegistry} id. */
+	private static final BinarySchema<?>[] BY_ID = new BinarySchema<?>[TypeRegistry.size() + 1];
+
+	static {
+		for (BinarySchema<?> schema : ALL) {
+			int id = TypeRegistry.idOf(schema.getType());
+			if (id == TypeRegistry.UNKNOWN) {
+				throw new IllegalStateException(schema.getType().getName() + " is not registered in TypeRegistry.");
+			}
+			BY_ID[id] = schema;
+		}
+	}
+
+	private DtoSchemas() {
+	}
+
+	/**
+	 * Returns the schema of the given DTO class.
+	 *
+	 * @param type the exact DTO class.
+	 * @return the schema, or {@code null} if the class has none.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> BinarySchema<T> of(Class<T> type) {
+		return (BinarySchema<T>) of(TypeRegistry.idOf(type));
+	}
+
+	/**
+	 * Returns the schema of the DTO registered under the given id.
+	 *
+	 * @param id the {@link TypeRegistry} id.
+	 * @return the schema, or {@code null} if the id has none.
+	 */
+	public static BinarySchema<?> of(int id) {
+		return id > TypeRegistry.UNKNOWN && id < BY_ID.length ? BY_ID[id] : null;
+	}
+
+	private static <T extends DistributedDto> BinarySchema.Builder<T> distributed(Class<T> type, Supplier<T> factory) {
+		return BinarySchema.builder(type, factory)
+				.field(DistributedDto::getRequestId, DistributedDto::setRequestId, ValueCodec.HASH);
+	}
+
+	private static <T extends CryptoSignedAbstractDto> BinarySchema.Builder<T> signed(Class<T> type, Supplier<T> factory) {
+		return distributed(type, factory)
+				.field(new HashField<>())
+				.field(CryptoSignedAbstractDto::getSignature, CryptoSignedAbstractDto::setSignature, ValueCodec.HEX)
+				.field(CryptoSignedAbstractDto::getPublicKey, CryptoSignedAbstractDto::setPublicKey, ValueCodec.HEX);
+	}
+
+	/**
+	 * Writes the raw digest of a signed DTO when available, so that the sender does not hex encode it.
+	 * <p>
+	 * The received value is only the hash claimed by the sender: it is decoded into {@code hash}, never into
+	 * {@code digest}, which is reserved for locally computed values.
+	 * </p>
+	 */
+	private static final class HashField<T extends CryptoSignedAbstractDto> implements BinarySchema.Field<T> {
+		@Override
+		public boolean isPresent(T dto) {
+			return dto.getDigest() != null || dto.getHash() != null;
+		}
+
+		@Override
+		public void write(BinaryWriter out, T dto) {
+			byte[] digest = dto.getDigest();
+			if (digest != null && digest.length == 32) {
+				out.writeByte(BinaryWriter.TAG_RAW).writeRaw(digest, 0, digest.length);
+			} else {
+				out.writeHash(dto.getHash());
+			}
+		}
+
+		@Override
+		public void read(BinaryReader in, T dto) {
+			dto.setHash(in.readHash());
+		}
+	}
+}
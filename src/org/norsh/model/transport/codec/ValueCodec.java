@@ -0,0 +1,96 @@
+package org.norsh.model.transport.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Binary encoding of a single non-null value.
+ *
+ * @param <V> the value type.
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see BinarySchema
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public interface ValueCodec<V> {
+	ValueCodec<String> STRING = of(BinaryWriter::writeString, BinaryReader::readString);
+
+	/** 64-character hexadecimal hashes, packed into 32 bytes when lowercase. */
+	ValueCodec<String> HASH = of(BinaryWriter::writeHash, BinaryReader::readHash);
+
+	/** Hexadecimal values of any length, packed into bytes when lowercase. */
+	ValueCodec<String> HEX = of(BinaryWriter::writeHex, BinaryReader::readHex);
+
+	ValueCodec<Long> LONG = of((out, value) -> out.writeZigZag(value), in -> in.readZigZag());
+
+	ValueCodec<Integer> INTEGER = of((out, value) -> out.writeZigZag(value), in -> Math.toIntExact(in.readZigZag()));
+
+	ValueCodec<Double> DOUBLE = of((out, value) -> out.writeDouble(value), in -> in.readDouble());
+
+	ValueCodec<Boolean> BOOLEAN = of((out, value) -> out.writeByte(value ? 1 : 0), in -> in.readByte() != 0);
+
+	/** Fixed-point decimals: scale followed by the unscaled value, as a varint when it fits in a {@code long}. */
+	ValueCodec<BigDecimal> DECIMAL = new ValueCodec<>() {
+		@Override
+		public void write(BinaryWriter out, BigDecimal value) {
+			BigInteger unscaled = value.unscaledValue();
+			if (unscaled.bitLength() < 64) {
+				out.writeByte(BinaryWriter.TAG_RAW).writeZigZag(value.scale()).writeZigZag(unscaled.longValue());
+			} else {
+				out.writeByte(BinaryWriter.TAG_TEXT).writeZigZag(value.scale()).writeBytes(unscaled.toByteArray());
+			}
+		}
+
+		@Override
+		public BigDecimal read(BinaryReader in) {
+			boolean compact = in.readTag() == BinaryWriter.TAG_RAW;
+			int scale = Math.toIntExact(in.readZigZag());
+			return compact ? BigDecimal.valueOf(in.readZigZag(), scale) : new BigDecimal(new BigInteger(in.readBytes()), scale);
+		}
+	};
+
+	void write(BinaryWriter out, V value);
+
+	V read(BinaryReader in);
+
+	/**
+	 * Encodes enum constants by ordinal. Constants may only be appended to the enum, never reordered or removed.
+	 *
+	 * @param type the enum class.
+	 * @return the codec.
+	 */
+	static <E extends Enum<E>> ValueCodec<E> ordinal(Class<E> type) {
+		E[] constants = type.getEnumConstants();
+		return of((out, value) -> out.writeVarLong(value.ordinal()), in -> {
+			long ordinal = in.readVarLong();
+			if (ordinal < 0 || ordinal >= constants.length) {
+				throw new IllegalArgumentException("Malformed frame: unknown " + type.getSimpleName() + " ordinal " + ordinal + ".");
+			}
+			return constants[(int) ordinal];
+		});
+	}
+
+	static <V> ValueCodec<V> of(Writer<V> writer, Reader<V> reader) {
+		return new ValueCodec<>() {
+			@Override
+			public void write(BinaryWriter out, V value) {
+				writer.write(out, value);
+			}
+
+			@Override
+			public V read(BinaryReader in) {
+				return reader.read(in);
+			}
+		};
+	}
+
+	@FunctionalInterface
+	interface Writer<V> {
+		void write(BinaryWriter out, V value);
+	}
+
+	@FunctionalInterface
+	interface Reader<V> {
+		V read(BinaryReader in);
+	}
+}
@@ -0,0 +1,388 @@
+package org.norsh.model.transport.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.norsh.exceptions.OperationStatus;
+import org.norsh.model.transport.DataTransfer;
+import org.norsh.model.transport.DataTransferBatch;
+import org.norsh.model.transport.TypeRegistry;
+import org.norsh.rest.RestMethod;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Streaming JSON encoding of {@link DataTransfer} and {@link DataTransferBatch} envelopes.
+ * <p>
+ * The output is the same, byte for byte, as a default Jackson {@code ObjectMapper}: fields in declaration order,
+ * {@code null} fields omitted as required by {@code @JsonInclude(NON_NULL)}, and DTOs written by their generated
+ * {@link JsonCodec}. No reflection or data binding happens per message for DTOs and JDK values; any other value is
+ * written by the fallback codec, an {@link ObjectMapperCodec} by default.
+ * </p>
+ * <p>
+ * When reading, {@code requestData} is decoded into its DTO class, resolved from {@code requestTypeId} (batches
+ * only, since it is not part of the {@link DataTransfer} JSON) or {@code requestClassName} through
+ * {@link TypeRegistry}. If it precedes both fields, it is buffered and decoded
+ * once the envelope has been read. Unregistered request types and {@code responseData} are read as untyped values
+ * (maps, lists, strings, numbers and booleans), as Jackson does for {@code Object} fields. Unknown fields are skipped.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * DataTransferJson json = new DataTransferJson();
+ * byte[] message = json.encode(new DataTransfer(requestId, RestMethod.POST, dto));
+ * DataTransfer transfer = json.decode(message);
+ * TransactionCreateDto request = (TransactionCreateDto) transfer.getRequestData();
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see JsonCodec
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class DataTransferJson implements JsonCodec<DataTransfer> {
+	private static final SerializedString REQUEST_ID = new SerializedString("requestId");
+	private static final SerializedString METHOD = new SerializedString("method");
+	private static final SerializedString REQUEST_CLASS_NAME = new SerializedString("requestClassName");
+	private static final SerializedString REQUEST_TYPE_ID = new SerializedString("requestTypeId");
+	private static final SerializedString REQUEST_DATA = new SerializedString("requestData");
+	private static final SerializedString RESPONSE_DATA = new SerializedString("responseData");
+	private static final SerializedString MESSAGE = new SerializedString("message");
+	private static final SerializedString STATUS = new SerializedString("status");
+	private static final SerializedString BATCH_ID = new SerializedString("batchId");
+	private static final SerializedString ITEMS = new SerializedString("items");
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	private final JsonFactory factory;
+	private final JsonCodec<Object> fallback;
+
+	/**
+	 * Creates an encoding backed by a default {@link ObjectMapper}, which writes the values that have no codec.
+	 */
+	public DataTransferJson() {
+		this(new ObjectMapper());
+	}
+
+	/**
+	 * Creates an encoding that writes the values without a codec through {@code mapper}.
+	 *
+	 * @param mapper the mapper providing the factory and the {@link ObjectMapperCodec} fallback.
+	 */
+	public DataTransferJson(ObjectMapper mapper) {
+		this(mapper.getFactory(), new ObjectMapperCodec(mapper));
+	}
+
+	/**
+	 * Creates an encoding.
+	 *
+	 * @param factory  the factory of the generators and parsers used by {@link #encode} and {@link #decode}.
+	 * @param fallback writes {@code requestData} and {@code responseData} values that are neither DTOs nor JDK values,
+	 *                 or {@code null} to reject them with an {@link IllegalArgumentException}.
+	 */
+	public DataTransferJson(JsonFactory factory, JsonCodec<Object> fallback) {
+		this.factory = factory;
+		this.fallback = fallback;
+	}
+
+	/**
+	 * Encodes an envelope as UTF-8 JSON.
+	 *
+	 * @param transfer the envelope.
+	 * @return the JSON bytes.
+	 * @throws IOException if a value cannot be written.
+	 */
+	public byte[] encode(DataTransfer transfer) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_CAPACITY);
+		try (JsonGenerator generator = factory.createGenerator(out, JsonEncoding.UTF8)) {
+			write(generator, transfer);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Decodes an envelope from JSON.
+	 *
+	 * @param json the JSON bytes.
+	 * @return the envelope, or {@code null} for a JSON {@code null}.
+	 * @throws IOException if the input is not a valid envelope.
+	 */
+	public DataTransfer decode(byte[] json) throws IOException {
+		try (JsonParser parser = factory.createParser(json)) {
+			parser.nextToken();
+			return read(parser);
+		}
+	}
+
+	/**
+	 * Encodes a batch as UTF-8 JSON.
+	 *
+	 * @param batch the batch.
+	 * @return the JSON bytes.
+	 * @throws IOException if a value cannot be written.
+	 */
+	public byte[] encodeBatch(DataTransferBatch batch) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_CAPACITY * batch.size());
+		try (JsonGenerator generator = factory.createGenerator(out, JsonEncoding.UTF8)) {
+			writeBatch(generator, batch);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Decodes a batch from JSON.
+	 *
+	 * @param json the JSON bytes.
+	 * @return the batch, or {@code null} for a JSON {@code null}.
+	 * @throws IOException if the input is not a valid batch.
+	 */
+	public DataTransferBatch decodeBatch(byte[] json) throws IOException {
+		try (JsonParser parser = factory.createParser(json)) {
+			parser.nextToken();
+			return readBatch(parser);
+		}
+	}
+
+	@Override
+	public void write(JsonGenerator generator, DataTransfer transfer) throws IOException {
+		if (transfer == null) {
+			generator.writeNull();
+			return;
+		}
+
+		generator.writeStartObject();
+		if (transfer.getRequestId() != null) {
+			generator.writeFieldName(REQUEST_ID);
+			generator.writeString(transfer.getRequestId());
+		}
+		if (transfer.getMethod() != null) {
+			generator.writeFieldName(METHOD);
+			generator.writeString(transfer.getMethod().name());
+		}
+		if (transfer.getRequestClassName() != null) {
+			generator.writeFieldName(REQUEST_CLASS_NAME);
+			generator.writeString(transfer.getRequestClassName());
+		}
+		Object requestData = transfer.getRequestData();
+		if (requestData != null) {
+			generator.writeFieldName(REQUEST_DATA);
+			JsonValues.writeValue(generator, requestData, fallback);
+		}
+		if (transfer.getResponseData() != null) {
+			generator.writeFieldName(RESPONSE_DATA);
+			JsonValues.writeValue(generator, transfer.getResponseData(), fallback);
+		}
+		if (transfer.getMessage() != null) {
+			generator.writeFieldName(MESSAGE);
+			generator.writeString(transfer.getMessage());
+		}
+		if (transfer.getStatus() != null) {
+			generator.writeFieldName(STATUS);
+			generator.writeString(transfer.getStatus().name());
+		}
+		generator.writeEndObject();
+	}
+
+	@Override
+	public DataTransfer read(JsonParser parser) throws IOException {
+		return read(parser, null, null);
+	}
+
+	/**
+	 * Writes a batch.
+	 *
+	 * @param generator the generator.
+	 * @param batch     the batch, possibly {@code null}.
+	 * @throws IOException if writing fails.
+	 */
+	public void writeBatch(JsonGenerator generator, DataTransferBatch batch) throws IOException {
+		if (batch == null) {
+			generator.writeNull();
+			return;
+		}
+
+		generator.writeStartObject();
+		if (batch.getBatchId() != null) {
+			generator.writeFieldName(BATCH_ID);
+			generator.writeString(batch.getBatchId());
+		}
+		if (batch.getMethod() != null) {
+			generator.writeFieldName(METHOD);
+			generator.writeString(batch.getMethod().name());
+		}
+		if (batch.getRequestClassName() != null) {
+			generator.writeFieldName(REQUEST_CLASS_NAME);
+			generator.writeString(batch.getRequestClassName());
+		}
+		if (batch.getRequestTypeId() != null) {
+			generator.writeFieldName(REQUEST_TYPE_ID);
+			generator.writeNumber(batch.getRequestTypeId());
+		}
+		if (batch.getItems() != null) {
+			generator.writeFieldName(ITEMS);
+			generator.writeStartArray();
+			for (DataTransfer item : batch.getItems()) {
+				write(generator, item);
+			}
+			generator.writeEndArray();
+		}
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Reads a batch. The request data of the items is decoded with the request type of the batch header, unless the
+	 * item declares its own.
+	 *
+	 * @param parser the parser, positioned on the first token of the batch.
+	 * @return the batch, or {@code null} for a JSON {@code null}.
+	 * @throws IOException if the input is not a valid batch.
+	 */
+	public DataTransferBatch readBatch(JsonParser parser) throws IOException {
+		if (parser.currentToken() == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		JsonValues.expectObject(parser, "DataTransferBatch");
+
+		DataTransferBatch batch = new DataTransferBatch();
+		List<byte[]> pending = null;
+		String name;
+		while ((name = parser.nextFieldName()) != null) {
+			parser.nextToken();
+			switch (name) {
+			case "batchId" -> batch.setBatchId(JsonValues.readString(parser));
+			case "method" -> batch.setMethod(JsonValues.readEnum(parser, RestMethod.class));
+			case "requestClassName" -> batch.setRequestClassName(JsonValues.readString(parser));
+			case "requestTypeId" -> batch.setRequestTypeId(JsonValues.readInteger(parser));
+			case "items" -> {
+				if (parser.currentToken() == JsonToken.VALUE_NULL) {
+					batch.setItems(null);
+				} else if (batch.getRequestTypeId() != null || batch.getRequestClassName() != null) {
+					batch.setItems(readItems(parser, batch));
+				} else {
+					// The header may still declare the request type
+					pending = new ArrayList<>();
+					JsonValues.expectArray(parser, "items");
+					while (parser.nextToken() != JsonToken.END_ARRAY) {
+						pending.add(buffer(parser));
+					}
+				}
+			}
+			default -> parser.skipChildren();
+			}
+		}
+
+		if (pending != null) {
+			List<DataTransfer> items = new ArrayList<>(pending.size());
+			for (byte[] json : pending) {
+				try (JsonParser item = factory.createParser(json)) {
+					item.nextToken();
+					items.add(read(item, batch.getRequestTypeId(), batch.getRequestClassName()));
+				}
+			}
+			batch.setItems(items);
+		}
+		return batch;
+	}
+
+	private List<DataTransfer> readItems(JsonParser parser, DataTransferBatch batch) throws IOException {
+		JsonValues.expectArray(parser, "items");
+		List<DataTransfer> items = new ArrayList<>();
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			items.add(read(parser, batch.getRequestTypeId(), batch.getRequestClassName()));
+		}
+		return items;
+	}
+
+	/**
+	 * Reads an envelope whose request type defaults to the given one.
+	 */
+	private DataTransfer read(JsonParser parser, Integer defaultTypeId, String defaultClassName) throws IOException {
+		if (parser.currentToken() == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		JsonValues.expectObject(parser, "DataTransfer");
+
+		DataTransfer transfer = new DataTransfer();
+		byte[] pendingRequestData = null;
+		String name;
+		while ((name = parser.nextFieldName()) != null) {
+			parser.nextToken();
+			switch (name) {
+			case "requestId" -> transfer.setRequestId(JsonValues.readString(parser));
+			case "method" -> transfer.setMethod(JsonValues.readEnum(parser, RestMethod.class));
+			case "requestClassName" -> transfer.setRequestClassName(JsonValues.readString(parser));
+			case "requestTypeId" -> transfer.setRequestTypeId(JsonValues.readInteger(parser));
+			case "requestData" -> {
+				JsonCodec<?> codec = codecOf(transfer, defaultTypeId, defaultClassName);
+				if (codec != null) {
+					transfer.setRequestData(codec.read(parser));
+					pendingRequestData = null;
+				} else if (parser.currentToken() == JsonToken.START_OBJECT) {
+					// The request type may follow the data
+					pendingRequestData = buffer(parser);
+				} else {
+					transfer.setRequestData(JsonValues.readValue(parser));
+					pendingRequestData = null;
+				}
+			}
+			case "responseData" -> transfer.setResponseData(JsonValues.readValue(parser));
+			case "message" -> transfer.setMessage(JsonValues.readString(parser));
+			case "status" -> transfer.setStatus(JsonValues.readEnum(parser, OperationStatus.class));
+			default -> parser.skipChildren();
+			}
+		}
+
+		if (pendingRequestData != null) {
+			JsonCodec<?> codec = codecOf(transfer, defaultTypeId, defaultClassName);
+			try (JsonParser data = factory.createParser(pendingRequestData)) {
+				data.nextToken();
+				transfer.setRequestData(codec != null ? codec.read(data) : JsonValues.readValue(data));
+			}
+		}
+		return transfer;
+	}
+
+	/**
+	 * Resolves the codec of the request data from the type declared so far.
+	 */
+	private static JsonCodec<?> codecOf(DataTransfer transfer, Integer defaultTypeId, String defaultClassName) {
+		Integer typeId = transfer.getRequestTypeId() != null ? transfer.getRequestTypeId() : defaultTypeId;
+		if (typeId != null) {
+			return JsonValues.codecOf(typeId);
+		}
+		String className = transfer.getRequestClassName() != null ? transfer.getRequestClassName() : defaultClassName;
+		return className == null ? null : JsonValues.codecOf(TypeRegistry.idOf(className));
+	}
+
+	/**
+	 * Copies the current value, with its children, into a standalone JSON document.
+	 */
+	private byte[] buffer(JsonParser parser) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_CAPACITY);
+		try (JsonGenerator generator = factory.createGenerator(out, JsonEncoding.UTF8)) {
+			int depth = 0;
+			do {
+				JsonToken token = parser.currentToken();
+				if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+					// Keeps the exact digits, which copyCurrentEvent rounds through a double
+					generator.writeNumber(parser.getText());
+				} else {
+					generator.copyCurrentEvent(parser);
+				}
+				depth += token.isStructStart() ? 1 : token.isStructEnd() ? -1 : 0;
+			} while (depth > 0 && parser.nextToken() != null);
+		}
+		return out.toByteArray();
+	}
+}
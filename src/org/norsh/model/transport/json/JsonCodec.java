@@ -0,0 +1,39 @@
+package org.norsh.model.transport.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Streaming JSON reader and writer of one type.
+ * <p>
+ * Codecs of the model DTOs are generated at build time as {@code <Dto>JsonCodec} classes, next to each DTO, and
+ * listed in {@code org.norsh.model.dtos.DtoJsonCodecs}.
+ * </p>
+ *
+ * @param <T> the encoded type.
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DataTransferJson
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public interface JsonCodec<T> {
+	/**
+	 * Writes a value.
+	 *
+	 * @param generator the generator.
+	 * @param value     the value, possibly {@code null}.
+	 * @throws IOException if writing fails.
+	 */
+	void write(JsonGenerator generator, T value) throws IOException;
+
+	/**
+	 * Reads a value.
+	 *
+	 * @param parser the parser, positioned on the first token of the value.
+	 * @return the value, or {@code null} for a JSON {@code null}.
+	 * @throws IOException if the input is not a valid encoding of the type.
+	 */
+	T read(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,325 @@
+package org.norsh.model.transport.json;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.norsh.model.dtos.DtoJsonCodecs;
+import org.norsh.model.transport.TypeRegistry;
+import org.norsh.model.types.Hash256;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Value conversions shared by the generated {@link JsonCodec}s.
+ * <p>
+ * Scalars are read with the default coercions of Jackson data binding: numbers and booleans are accepted for strings,
+ * numeric strings for numbers, and an empty string for a {@code null} number. Untyped values are read as
+ * {@link LinkedHashMap}, {@link ArrayList}, {@link String}, {@link Integer}, {@link Long}, {@link BigInteger},
+ * {@link Double} or {@link Boolean}, as Jackson reads them into an {@code Object}.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see JsonCodec
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class JsonValues {
+	/** Codecs of the registered DTOs, indexed by {@link TypeRegistry} id. */
+	private static final JsonCodec<?>[] BY_ID = new JsonCodec<?>[TypeRegistry.size() + 1];
+
+	private static final ClassValue<JsonCodec<?>> BY_CLASS = new ClassValue<>() {
+		@Override
+		protected JsonCodec<?> computeValue(Class<?> type) {
+			return DtoJsonCodecs.of(type);
+		}
+	};
+
+	static {
+		for (int id = 1; id < BY_ID.length; id++) {
+			BY_ID[id] = DtoJsonCodecs.of(TypeRegistry.typeOf(id));
+		}
+	}
+
+	private JsonValues() {
+	}
+
+	/**
+	 * Returns the codec of a DTO type.
+	 *
+	 * @param type the DTO type.
+	 * @return the generated codec, or {@code null} if the type has none.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> JsonCodec<T> codecOf(Class<T> type) {
+		return (JsonCodec<T>) BY_CLASS.get(type);
+	}
+
+	/**
+	 * Returns the codec of a registered DTO type.
+	 *
+	 * @param typeId the {@link TypeRegistry} id.
+	 * @return the generated codec, or {@code null} if the id is unknown.
+	 */
+	public static JsonCodec<?> codecOf(int typeId) {
+		return typeId > 0 && typeId < BY_ID.length ? BY_ID[typeId] : null;
+	}
+
+	public static String readString(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		} else if (token != null && token.isScalarValue()) {
+			return parser.getText();
+		}
+		throw mismatch(parser, "String");
+	}
+
+	public static Long readLong(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+			return parser.getLongValue();
+		}
+		String text = numericText(parser, "Long");
+		return text == null ? null : Long.valueOf(text);
+	}
+
+	public static Integer readInteger(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+			return parser.getIntValue();
+		}
+		String text = numericText(parser, "Integer");
+		return text == null ? null : Integer.valueOf(text);
+	}
+
+	public static Double readDouble(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+			return parser.getDoubleValue();
+		}
+		String text = numericText(parser, "Double");
+		return text == null ? null : Double.valueOf(text);
+	}
+
+	public static BigDecimal readBigDecimal(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+			return parser.getDecimalValue();
+		}
+		String text = numericText(parser, "BigDecimal");
+		return text == null ? null : new BigDecimal(text);
+	}
+
+	public static Boolean readBoolean(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+			return token == JsonToken.VALUE_TRUE;
+		} else if (token == JsonToken.VALUE_NUMBER_INT) {
+			return parser.getIntValue() != 0;
+		}
+		String text = numericText(parser, "Boolean");
+		if (text == null) {
+			return null;
+		} else if (text.equalsIgnoreCase("true") || text.equalsIgnoreCase("false")) {
+			return Boolean.valueOf(text);
+		}
+		throw mismatch(parser, "Boolean");
+	}
+
+	/**
+	 * Reads an enum constant from its name or, as Jackson does by default, from its ordinal.
+	 *
+	 * @param parser the parser.
+	 * @param type   the enum type.
+	 * @return the constant, or {@code null} for a JSON {@code null}.
+	 * @throws IOException if the value names no constant of the type.
+	 */
+	public static <E extends Enum<E>> E readEnum(JsonParser parser, Class<E> type) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		} else if (token == JsonToken.VALUE_STRING) {
+			try {
+				return Enum.valueOf(type, parser.getText());
+			} catch (IllegalArgumentException ex) {
+				throw new JsonParseException(parser, "Cannot read " + type.getSimpleName() + " from \"" + parser.getText() + "\".", ex);
+			}
+		} else if (token == JsonToken.VALUE_NUMBER_INT) {
+			E[] constants = type.getEnumConstants();
+			int ordinal = parser.getIntValue();
+			if (ordinal >= 0 && ordinal < constants.length) {
+				return constants[ordinal];
+			}
+		}
+		throw mismatch(parser, type.getSimpleName());
+	}
+
+	/**
+	 * Reads a value of unknown type, as Jackson data binding reads it into an {@code Object}.
+	 *
+	 * @param parser the parser, positioned on the first token of the value.
+	 * @return the value.
+	 * @throws IOException if the input is not valid JSON.
+	 */
+	public static Object readValue(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == null) {
+			throw mismatch(parser, "value");
+		}
+
+		switch (token) {
+		case START_OBJECT -> {
+			Map<String, Object> map = new LinkedHashMap<>();
+			String name;
+			while ((name = parser.nextFieldName()) != null) {
+				parser.nextToken();
+				map.put(name, readValue(parser));
+			}
+			return map;
+		}
+		case START_ARRAY -> {
+			List<Object> list = new ArrayList<>();
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				list.add(readValue(parser));
+			}
+			return list;
+		}
+		case VALUE_STRING -> {
+			return parser.getText();
+		}
+		case VALUE_NUMBER_INT -> {
+			return parser.getNumberValue();
+		}
+		case VALUE_NUMBER_FLOAT -> {
+			return parser.getDoubleValue();
+		}
+		case VALUE_TRUE, VALUE_FALSE -> {
+			return token == JsonToken.VALUE_TRUE;
+		}
+		case VALUE_NULL -> {
+			return null;
+		}
+		default -> throw mismatch(parser, "value");
+		}
+	}
+
+	/**
+	 * Writes a value of unknown type: registered DTOs through their codec, and JDK values as Jackson data binding
+	 * writes them.
+	 *
+	 * @param generator the generator.
+	 * @param value     the value.
+	 * @param fallback  writes values of any other type, or {@code null} to reject them.
+	 * @throws IOException              if writing fails.
+	 * @throws IllegalArgumentException if the value has no codec and there is no fallback.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void writeValue(JsonGenerator generator, Object value, JsonCodec<Object> fallback) throws IOException {
+		if (value == null) {
+			generator.writeNull();
+			return;
+		}
+
+		JsonCodec<Object> codec = (JsonCodec<Object>) BY_CLASS.get(value.getClass());
+		if (codec != null) {
+			codec.write(generator, value);
+		} else if (value instanceof String text) {
+			generator.writeString(text);
+		} else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			generator.writeNumber(((Number) value).intValue());
+		} else if (value instanceof Long number) {
+			generator.writeNumber(number);
+		} else if (value instanceof Double number) {
+			generator.writeNumber(number);
+		} else if (value instanceof Float number) {
+			generator.writeNumber(number);
+		} else if (value instanceof BigDecimal number) {
+			generator.writeNumber(number);
+		} else if (value instanceof BigInteger number) {
+			generator.writeNumber(number);
+		} else if (value instanceof Boolean bool) {
+			generator.writeBoolean(bool);
+		} else if (value instanceof Hash256 hash) {
+			generator.writeString(hash.toHex());
+		} else if (value instanceof Enum<?> constant) {
+			generator.writeString(constant.name());
+		} else if (value instanceof Map<?, ?> map) {
+			generator.writeStartObject();
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				generator.writeFieldName(String.valueOf(entry.getKey()));
+				writeValue(generator, entry.getValue(), fallback);
+			}
+			generator.writeEndObject();
+		} else if (value instanceof Iterable<?> iterable) {
+			generator.writeStartArray();
+			for (Object item : iterable) {
+				writeValue(generator, item, fallback);
+			}
+			generator.writeEndArray();
+		} else if (value instanceof byte[] bytes) {
+			generator.writeBinary(bytes);
+		} else if (value instanceof Object[] array) {
+			generator.writeStartArray();
+			for (Object item : array) {
+				writeValue(generator, item, fallback);
+			}
+			generator.writeEndArray();
+		} else if (fallback != null) {
+			fallback.write(generator, value);
+		} else {
+			throw new IllegalArgumentException("No JSON codec for " + value.getClass().getName() + ".");
+		}
+	}
+
+	/**
+	 * Checks that the parser is on the start of an object.
+	 *
+	 * @param parser the parser.
+	 * @param type   the expected type, for the error message.
+	 * @throws JsonParseException if the current token is not {@code START_OBJECT}.
+	 */
+	public static void expectObject(JsonParser parser, String type) throws JsonParseException {
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			throw mismatch(parser, type);
+		}
+	}
+
+	/**
+	 * Checks that the parser is on the start of an array.
+	 *
+	 * @param parser the parser.
+	 * @param type   the expected type, for the error message.
+	 * @throws JsonParseException if the current token is not {@code START_ARRAY}.
+	 */
+	public static void expectArray(JsonParser parser, String type) throws JsonParseException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			throw mismatch(parser, type);
+		}
+	}
+
+	/**
+	 * Returns the text of a string or null token read as a number or boolean.
+	 */
+	private static String numericText(JsonParser parser, String type) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		} else if (token == JsonToken.VALUE_STRING) {
+			String text = parser.getText().trim();
+			return text.isEmpty() ? null : text;
+		}
+		throw mismatch(parser, type);
+	}
+
+	private static JsonParseException mismatch(JsonParser parser, String type) {
+		return new JsonParseException(parser, "Cannot read " + type + " from " + parser.currentToken() + ".");
+	}
+}
@@ -0,0 +1,49 @@
+package org.norsh.model.transport.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link JsonCodec} delegating to a Jackson {@link ObjectMapper}, for values that have no generated codec.
+ * <p>
+ * It is the default fallback of {@link DataTransferJson}, so application types carried in {@code requestData} or
+ * {@code responseData} are written exactly as the mapper writes them. Values are read as untyped maps, lists and
+ * scalars.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+ * DataTransferJson json = new DataTransferJson(mapper.getFactory(), new ObjectMapperCodec(mapper));
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see DataTransferJson
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class ObjectMapperCodec implements JsonCodec<Object> {
+	private final ObjectMapper mapper;
+
+	/**
+	 * Creates a codec.
+	 *
+	 * @param mapper the mapper writing and reading the values.
+	 */
+	public ObjectMapperCodec(ObjectMapper mapper) {
+		this.mapper = mapper;
+	}
+
+	@Override
+	public void write(JsonGenerator generator, Object value) throws IOException {
+		mapper.writeValue(generator, value);
+	}
+
+	@Override
+	public Object read(JsonParser parser) throws IOException {
+		return mapper.readValue(parser, Object.class);
+	}
+}
@@ -0,0 +1,36 @@
+package org.norsh.model.treasury;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Aggregate of one metric over a time bucket, in fixed-point units of the series.
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see TreasurySeries#downsample(TreasuryMetric, long, long, long)
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Getter
+@AllArgsConstructor
+public class TreasuryBucket {
+	/** Start of the bucket (inclusive), in the unit of the snapshot timestamps. */
+	private final long start;
+
+	/** Number of snapshots with a value in the bucket. */
+	private final int count;
+
+	private final long min;
+
+	private final long max;
+
+	/** Value of the latest snapshot in the bucket. */
+	private final long last;
+
+	/** Timestamp of the latest snapshot in the bucket. */
+	private final long lastTimestamp;
+
+	public boolean isEmpty() {
+		return count == 0;
+	}
+}
@@ -0,0 +1,38 @@
+package org.norsh.model.treasury;
+
+import java.math.BigDecimal;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.norsh.model.dtos.elements.TreasuryInfoDto;
+
+/**
+ * Numeric columns of {@link TreasuryInfoDto} kept by a {@link TreasurySeries}.
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see TreasurySeries
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public enum TreasuryMetric {
+	SUPPLY(TreasuryInfoDto::getSupply, TreasuryInfoDto::setSupply),
+	CIRCULATING(TreasuryInfoDto::getCirculating, TreasuryInfoDto::setCirculating),
+	NSH(TreasuryInfoDto::getNsh, TreasuryInfoDto::setNsh),
+	VALUE(TreasuryInfoDto::getValue, TreasuryInfoDto::setValue);
+
+	private final Function<TreasuryInfoDto, BigDecimal> getter;
+	private final BiConsumer<TreasuryInfoDto, BigDecimal> setter;
+
+	TreasuryMetric(Function<TreasuryInfoDto, BigDecimal> getter, BiConsumer<TreasuryInfoDto, BigDecimal> setter) {
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	BigDecimal get(TreasuryInfoDto dto) {
+		return getter.apply(dto);
+	}
+
+	void set(TreasuryInfoDto dto, BigDecimal value) {
+		setter.accept(dto, value);
+	}
+}
@@ -0,0 +1,290 @@
+package org.norsh.model.treasury;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.norsh.model.dtos.elements.TreasuryInfoDto;
+
+/**
+ * Columnar, append-only history of the treasury snapshots of one element.
+ * <p>
+ * Timestamps and each {@link TreasuryMetric} are stored in primitive {@code long} arrays; metrics are fixed-point
+ * values with {@code decimals} decimals (rounded half-even when a snapshot has more). A missing metric is stored as
+ * {@link #NULL}. A snapshot costs 40 bytes instead of a {@link TreasuryInfoDto} with four {@link BigDecimal}s.
+ * </p>
+ *
+ * <h2>Concurrency:</h2>
+ * <p>
+ * Appends are serialized; queries never lock. A query reads the published size first and only looks at entries
+ * below it, which are never modified once published.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * TreasuryBucket[] daily = series.downsample(TreasuryMetric.CIRCULATING, from, to, 86_400_000L);
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see TreasuryStore
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class TreasurySeries {
+	/** Marker of a missing metric value. */
+	public static final long NULL = Long.MIN_VALUE;
+
+	/** Number of buckets below which downsampling runs on the calling thread. */
+	private static final int PARALLEL_THRESHOLD = 64;
+
+	private static final TreasuryMetric[] METRICS = TreasuryMetric.values();
+
+	private final int decimals;
+
+	private volatile long[] timestamps;
+	private volatile long[][] columns;
+	private volatile int size;
+
+	/**
+	 * Creates an empty series.
+	 *
+	 * @param decimals        the number of decimals kept for every metric.
+	 * @param initialCapacity the initial number of snapshots.
+	 */
+	public TreasurySeries(int decimals, int initialCapacity) {
+		if (decimals < 0 || decimals > 18) {
+			throw new IllegalArgumentException("Invalid decimals: must be between 0 and 18.");
+		}
+		this.decimals = decimals;
+		this.timestamps = new long[Math.max(initialCapacity, 16)];
+		this.columns = new long[METRICS.length][timestamps.length];
+	}
+
+	public int getDecimals() {
+		return decimals;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Appends a snapshot.
+	 *
+	 * @param dto the snapshot, with its {@code timestamp} set.
+	 * @throws IllegalArgumentException if the timestamp is missing or older than the latest snapshot.
+	 * @throws ArithmeticException      if a metric does not fit in a {@code long} with the series decimals.
+	 */
+	public synchronized void append(TreasuryInfoDto dto) {
+		if (dto.getTimestamp() == null) {
+			throw new IllegalArgumentException("Invalid timestamp: The 'timestamp' field is required.");
+		}
+
+		long timestamp = dto.getTimestamp();
+		int index = size;
+		if (index > 0 && timestamp < timestamps[index - 1]) {
+			throw new IllegalArgumentException("Invalid timestamp: Snapshots must be appended in chronological order.");
+		}
+
+		long[] values = new long[METRICS.length];
+		for (TreasuryMetric metric : METRICS) {
+			values[metric.ordinal()] = toUnits(metric.get(dto));
+		}
+
+		if (index == timestamps.length) {
+			grow();
+		}
+		long[] ts = timestamps;
+		long[][] cols = columns;
+		ts[index] = timestamp;
+		for (int i = 0; i < values.length; i++) {
+			cols[i][index] = values[i];
+		}
+		// Publishes the entry
+		size = index + 1;
+	}
+
+	/**
+	 * Returns the index of the first snapshot at or after the given timestamp.
+	 *
+	 * @param timestamp the timestamp.
+	 * @return the index, or {@link #size()} if every snapshot is older.
+	 */
+	public int indexOf(long timestamp) {
+		return lowerBound(timestamps, size, timestamp);
+	}
+
+	public long timestampAt(int index) {
+		checkIndex(index, size);
+		return timestamps[index];
+	}
+
+	/**
+	 * Returns a metric value in fixed-point units.
+	 *
+	 * @param metric the metric.
+	 * @param index  the snapshot index.
+	 * @return the value, or {@link #NULL} if it was missing.
+	 */
+	public long valueAt(TreasuryMetric metric, int index) {
+		checkIndex(index, size);
+		return columns[metric.ordinal()][index];
+	}
+
+	/**
+	 * Copies the timestamps of the snapshots in {@code [from, to)}.
+	 *
+	 * @param from the first timestamp, inclusive.
+	 * @param to   the last timestamp, exclusive.
+	 * @return the timestamps.
+	 */
+	public long[] timestamps(long from, long to) {
+		int n = size;
+		long[] ts = timestamps;
+		int start = lowerBound(ts, n, from);
+		return Arrays.copyOfRange(ts, start, Math.max(start, lowerBound(ts, n, to)));
+	}
+
+	/**
+	 * Copies a metric for the snapshots in {@code [from, to)}, aligned with {@link #timestamps(long, long)}.
+	 *
+	 * @param metric the metric.
+	 * @param from   the first timestamp, inclusive.
+	 * @param to     the last timestamp, exclusive.
+	 * @return the values in fixed-point units, {@link #NULL} where missing.
+	 */
+	public long[] values(TreasuryMetric metric, long from, long to) {
+		int n = size;
+		long[] ts = timestamps;
+		long[] column = columns[metric.ordinal()];
+		int start = lowerBound(ts, n, from);
+		return Arrays.copyOfRange(column, start, Math.max(start, lowerBound(ts, n, to)));
+	}
+
+	/**
+	 * Rebuilds the snapshot at the given index.
+	 *
+	 * @param index the snapshot index.
+	 * @return a new DTO, without {@code id} nor {@code udbn}.
+	 */
+	public TreasuryInfoDto toDto(int index) {
+		checkIndex(index, size);
+		long[][] cols = columns;
+		TreasuryInfoDto dto = new TreasuryInfoDto();
+		dto.setTimestamp(timestamps[index]);
+		for (TreasuryMetric metric : METRICS) {
+			metric.set(dto, toBigDecimal(cols[metric.ordinal()][index]));
+		}
+		return dto;
+	}
+
+	/**
+	 * Aggregates a metric into fixed-width time buckets.
+	 * <p>
+	 * Buckets are scanned in parallel when there are many of them. Missing values are ignored; a bucket without any
+	 * value is returned with a zero count.
+	 * </p>
+	 *
+	 * @param metric the metric.
+	 * @param from   start of the first bucket, inclusive.
+	 * @param to     end of the range, exclusive.
+	 * @param width  width of a bucket, in the unit of the timestamps.
+	 * @return one bucket per {@code width} interval of {@code [from, to)}.
+	 */
+	public TreasuryBucket[] downsample(TreasuryMetric metric, long from, long to, long width) {
+		if (width <= 0) {
+			throw new IllegalArgumentException("Invalid bucket width: must be greater than zero.");
+		} else if (to <= from) {
+			return new TreasuryBucket[0];
+		}
+
+		int n = size;
+		long[] ts = timestamps;
+		long[] column = columns[metric.ordinal()];
+		int buckets = Math.toIntExact((to - from - 1) / width + 1);
+		TreasuryBucket[] result = new TreasuryBucket[buckets];
+
+		IntStream indexes = IntStream.range(0, buckets);
+		if (buckets >= PARALLEL_THRESHOLD) {
+			indexes = indexes.parallel();
+		}
+		indexes.forEach(bucket -> {
+			long start = from + bucket * width;
+			long end = Math.min(to, start + width);
+			result[bucket] = aggregate(ts, column, lowerBound(ts, n, start), lowerBound(ts, n, end), start);
+		});
+		return result;
+	}
+
+	/**
+	 * Converts fixed-point units of this series to a decimal.
+	 *
+	 * @param units the units.
+	 * @return the value, or {@code null} for {@link #NULL}.
+	 */
+	public BigDecimal toBigDecimal(long units) {
+		return units == NULL ? null : BigDecimal.valueOf(units, decimals);
+	}
+
+	private long toUnits(BigDecimal value) {
+		if (value == null) {
+			return NULL;
+		}
+		long units = value.setScale(decimals, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+		if (units == NULL) {
+			throw new ArithmeticException("Invalid treasury value: out of range: " + value);
+		}
+		return units;
+	}
+
+	private static TreasuryBucket aggregate(long[] ts, long[] column, int from, int to, long start) {
+		int count = 0;
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		long last = NULL;
+		long lastTimestamp = 0;
+		for (int i = from; i < to; i++) {
+			long value = column[i];
+			if (value != NULL) {
+				count++;
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+				last = value;
+				lastTimestamp = ts[i];
+			}
+		}
+		return count == 0 ? new TreasuryBucket(start, 0, NULL, NULL, NULL, 0) : new TreasuryBucket(start, count, min, max, last, lastTimestamp);
+	}
+
+	private void grow() {
+		int capacity = timestamps.length << 1;
+		long[][] grown = new long[columns.length][];
+		for (int i = 0; i < grown.length; i++) {
+			grown[i] = Arrays.copyOf(columns[i], capacity);
+		}
+		// Readers holding the old arrays keep seeing the published entries
+		columns = grown;
+		timestamps = Arrays.copyOf(timestamps, capacity);
+	}
+
+	private static int lowerBound(long[] ts, int size, long timestamp) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (ts[middle] < timestamp) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private static void checkIndex(int index, int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(index);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package org.norsh.model.treasury;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.norsh.model.dtos.elements.TreasuryInfoDto;
+import org.norsh.model.types.Hash256;
+
+/**
+ * In-memory treasury history of every element, one {@link TreasurySeries} per element id.
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * TreasuryStore store = new TreasuryStore(8);
+ * store.append(elementId, treasuryInfo);
+ * TreasuryBucket[] hourly = store.series(elementId).downsample(TreasuryMetric.VALUE, from, to, 3_600_000L);
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see TreasurySeries
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public class TreasuryStore {
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final Map<Hash256, TreasurySeries> series = new ConcurrentHashMap<>();
+	private final int decimals;
+
+	/**
+	 * Creates a store.
+	 *
+	 * @param decimals the number of decimals kept for every metric of every element.
+	 */
+	public TreasuryStore(int decimals) {
+		this.decimals = decimals;
+	}
+
+	/**
+	 * Appends a snapshot to the series of an element, creating the series on first use.
+	 *
+	 * @param element the element id.
+	 * @param dto     the snapshot.
+	 */
+	public void append(Hash256 element, TreasuryInfoDto dto) {
+		series.computeIfAbsent(element, key -> new TreasurySeries(decimals, INITIAL_CAPACITY)).append(dto);
+	}
+
+	/**
+	 * Returns the series of an element.
+	 *
+	 * @param element the element id.
+	 * @return the series, or {@code null} if no snapshot was appended for the element.
+	 */
+	public TreasurySeries series(Hash256 element) {
+		return series.get(element);
+	}
+
+	public Set<Hash256> elements() {
+		return series.keySet();
+	}
+
+	public TreasurySeries remove(Hash256 element) {
+		return series.remove(element);
+	}
+}
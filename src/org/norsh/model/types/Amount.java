@@ -0,0 +1,343 @@
+package org.norsh.model.types;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable fixed-point amount of a Smart Element.
+ * <p>
+ * The value is stored as a {@code long} number of units scaled by the element {@code decimals} (0 to 18, as enforced
+ * by {@code ElementCreateDto}): with 6 decimals, {@code 1.5} is held as {@code 1500000}. Arithmetic is exact and
+ * checked; any overflow raises an {@link ArithmeticException} instead of wrapping. Parsing and formatting are exact and
+ * never go through {@link BigDecimal}.
+ * </p>
+ *
+ * <h2>Range:</h2>
+ * <p>
+ * The representable magnitude is {@code Long.MAX_VALUE / 10^decimals}, about 9.2 units at 18 decimals and 9.2
+ * trillion units at 6 decimals. Values outside this range are rejected with an {@link ArithmeticException}.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * Amount volume = Amount.parse(transaction.getVolume(), element.getDecimals());
+ * if (volume.compareTo(fee) &lt; 0) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class Amount implements Comparable<Amount> {
+	/** Maximum number of decimals of a Smart Element. */
+	public static final int MAX_DECIMALS = 18;
+
+	private static final long[] POWERS_OF_TEN = new long[MAX_DECIMALS + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i <= MAX_DECIMALS; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	private final long units;
+	private final int decimals;
+
+	private Amount(long units, int decimals) {
+		this.units = units;
+		this.decimals = decimals;
+	}
+
+	/**
+	 * Creates an amount from its scaled units.
+	 *
+	 * @param units    the value multiplied by {@code 10^decimals}.
+	 * @param decimals the number of decimals, from 0 to 18.
+	 * @return the amount.
+	 */
+	public static Amount ofUnits(long units, int decimals) {
+		return new Amount(units, checkDecimals(decimals));
+	}
+
+	/**
+	 * Creates a zero amount.
+	 *
+	 * @param decimals the number of decimals, from 0 to 18.
+	 * @return the amount.
+	 */
+	public static Amount zero(int decimals) {
+		return ofUnits(0, decimals);
+	}
+
+	/**
+	 * Converts a {@link BigDecimal}, without rounding.
+	 *
+	 * @param value    the value to convert.
+	 * @param decimals the number of decimals, from 0 to 18.
+	 * @return the amount.
+	 * @throws ArithmeticException if the value has more significant decimals than allowed or is out of range.
+	 */
+	public static Amount of(BigDecimal value, int decimals) {
+		return new Amount(value.setScale(checkDecimals(decimals)).unscaledValue().longValueExact(), decimals);
+	}
+
+	/**
+	 * Parses a decimal string, in the format accepted by {@link BigDecimal#BigDecimal(String)}, without rounding.
+	 *
+	 * @param value    the decimal string.
+	 * @param decimals the number of decimals, from 0 to 18.
+	 * @return the amount.
+	 * @throws NumberFormatException if the value is not a valid decimal number.
+	 * @throws ArithmeticException   if the value has more significant decimals than allowed or is out of range.
+	 */
+	public static Amount parse(CharSequence value, int decimals) {
+		return new Amount(parseUnits(value, checkDecimals(decimals)), decimals);
+	}
+
+	/**
+	 * Parses a decimal string into scaled units, without allocating.
+	 * <p>
+	 * Trailing zeros beyond {@code decimals} are accepted ({@code "1.500"} with 2 decimals is {@code 150}), any other
+	 * extra decimal digit is rejected.
+	 * </p>
+	 *
+	 * @param value    the decimal string.
+	 * @param decimals the number of decimals, from 0 to 18.
+	 * @return the value multiplied by {@code 10^decimals}.
+	 * @throws NumberFormatException if the value is not a valid decimal number.
+	 * @throws ArithmeticException   if the value has more significant decimals than allowed or is out of range.
+	 */
+	public static long parseUnits(CharSequence value, int decimals) {
+		checkDecimals(decimals);
+		int length = value.length();
+		int i = 0;
+		boolean negative = false;
+
+		if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+			negative = value.charAt(i++) == '-';
+		}
+
+		// Magnitude accumulated as a negative number, so that Long.MIN_VALUE is reachable
+		long mantissa = 0;
+		int trailingZeros = 0;
+		int fractionDigits = 0;
+		boolean digits = false;
+		boolean point = false;
+		boolean overflow = false;
+
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digits = true;
+				if (point) {
+					fractionDigits++;
+				}
+				if (c == '0') {
+					trailingZeros++;
+				} else {
+					if (!overflow) {
+						try {
+							mantissa = Math.subtractExact(scale(mantissa, trailingZeros + 1), c - '0');
+						} catch (ArithmeticException ex) {
+							// Reported once the whole value is known to be well formed
+							overflow = true;
+						}
+					}
+					trailingZeros = 0;
+				}
+			} else if (c == '.' && !point) {
+				point = true;
+			} else {
+				break;
+			}
+		}
+
+		if (!digits) {
+			throw new NumberFormatException("Invalid amount: " + value);
+		}
+
+		long exponent = 0;
+		if (i < length) {
+			char c = value.charAt(i++);
+			if (c != 'e' && c != 'E') {
+				throw new NumberFormatException("Invalid amount: " + value);
+			}
+			boolean negativeExponent = false;
+			if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+				negativeExponent = value.charAt(i++) == '-';
+			}
+			if (i == length) {
+				throw new NumberFormatException("Invalid amount: " + value);
+			}
+			for (; i < length; i++) {
+				c = value.charAt(i);
+				if (c < '0' || c > '9') {
+					throw new NumberFormatException("Invalid amount: " + value);
+				}
+				exponent = exponent * 10 + (c - '0');
+				if (exponent > Integer.MAX_VALUE) {
+					throw new NumberFormatException("Invalid amount: exponent out of range: " + value);
+				}
+			}
+			if (negativeExponent) {
+				exponent = -exponent;
+			}
+		}
+
+		if (overflow) {
+			throw new ArithmeticException("Invalid amount: out of range: " + value);
+		} else if (mantissa != 0) {
+			long shift = trailingZeros - fractionDigits + exponent + decimals;
+			if (shift < 0) {
+				throw new ArithmeticException("Invalid amount: more than " + decimals + " decimals: " + value);
+			}
+			mantissa = scale(mantissa, shift);
+		}
+		return negative ? mantissa : Math.negateExact(mantissa);
+	}
+
+	/**
+	 * Returns the value multiplied by {@code 10^decimals}.
+	 *
+	 * @return the scaled units.
+	 */
+	public long getUnits() {
+		return units;
+	}
+
+	/**
+	 * Returns the number of decimals of the amount.
+	 *
+	 * @return the decimals, from 0 to 18.
+	 */
+	public int getDecimals() {
+		return decimals;
+	}
+
+	public Amount add(Amount other) {
+		return new Amount(Math.addExact(units, sameDecimals(other).units), decimals);
+	}
+
+	public Amount subtract(Amount other) {
+		return new Amount(Math.subtractExact(units, sameDecimals(other).units), decimals);
+	}
+
+	public Amount negate() {
+		return new Amount(Math.negateExact(units), decimals);
+	}
+
+	public int signum() {
+		return Long.signum(units);
+	}
+
+	public boolean isNegative() {
+		return units < 0;
+	}
+
+	public boolean isZero() {
+		return units == 0;
+	}
+
+	/**
+	 * Converts the amount to another number of decimals, without rounding.
+	 *
+	 * @param decimals the target number of decimals, from 0 to 18.
+	 * @return the converted amount.
+	 * @throws ArithmeticException if significant decimals would be lost or the value is out of range.
+	 */
+	public Amount withDecimals(int decimals) {
+		checkDecimals(decimals);
+		if (decimals == this.decimals) {
+			return this;
+		} else if (decimals > this.decimals) {
+			return new Amount(Math.multiplyExact(units, POWERS_OF_TEN[decimals - this.decimals]), decimals);
+		}
+
+		long divisor = POWERS_OF_TEN[this.decimals - decimals];
+		if (units % divisor != 0) {
+			throw new ArithmeticException("Invalid amount: more than " + decimals + " decimals: " + this);
+		}
+		return new Amount(units / divisor, decimals);
+	}
+
+	public BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(units, decimals);
+	}
+
+	/**
+	 * Compares the numeric values of two amounts. Amounts with different decimals are compared exactly.
+	 */
+	@Override
+	public int compareTo(Amount other) {
+		if (decimals == other.decimals) {
+			return Long.compare(units, other.units);
+		}
+		return toBigDecimal().compareTo(other.toBigDecimal());
+	}
+
+	/**
+	 * Two amounts are equal when they have the same units and decimals, as {@link BigDecimal#equals(Object)}.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof Amount other && units == other.units && decimals == other.decimals;
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(units) * 31 + decimals;
+	}
+
+	/**
+	 * Returns the plain decimal representation with exactly {@code decimals} fraction digits.
+	 */
+	@Override
+	public String toString() {
+		String magnitude = Long.toUnsignedString(units < 0 ? -units : units);
+		StringBuilder out = new StringBuilder(magnitude.length() + decimals + 3);
+		if (units < 0) {
+			out.append('-');
+		}
+
+		int integerDigits = magnitude.length() - decimals;
+		if (integerDigits <= 0) {
+			out.append('0');
+		} else {
+			out.append(magnitude, 0, integerDigits);
+		}
+
+		if (decimals > 0) {
+			out.append('.');
+			for (int i = integerDigits; i < 0; i++) {
+				out.append('0');
+			}
+			out.append(magnitude, Math.max(integerDigits, 0), magnitude.length());
+		}
+		return out.toString();
+	}
+
+	private Amount sameDecimals(Amount other) {
+		if (other.decimals != decimals) {
+			throw new IllegalArgumentException("Amounts have different decimals: " + decimals + " and " + other.decimals);
+		}
+		return other;
+	}
+
+	private static long scale(long value, long exponent) {
+		if (value == 0 || exponent == 0) {
+			return value;
+		} else if (exponent > MAX_DECIMALS) {
+			throw new ArithmeticException("Invalid amount: out of range");
+		}
+		return Math.multiplyExact(value, POWERS_OF_TEN[(int) exponent]);
+	}
+
+	private static int checkDecimals(int decimals) {
+		if (decimals < 0 || decimals > MAX_DECIMALS) {
+			throw new IllegalArgumentException("Invalid decimals: must be between 0 and " + MAX_DECIMALS + ".");
+		}
+		return decimals;
+	}
+}
@@ -0,0 +1,235 @@
+package org.norsh.model.types;
+
+import java.nio.ByteBuffer;
+
+import org.norsh.model.validation.Checks;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Immutable 256-bit hash, such as an element id, a recipient or a transaction hash.
+ * <p>
+ * The value is held in four {@code long} words (big-endian), 32 bytes of payload instead of a 64-character hexadecimal
+ * {@link String}. Equality and hashing compare the words directly. Hexadecimal conversion only happens at the edges,
+ * and Jackson reads and writes the value as its lowercase hexadecimal string.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * Hash256 element = Hash256.fromHex(dto.getElement());
+ * if (element.equals(Hash256.fromHex(Constants.getNorshElement()))) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class Hash256 implements Comparable<Hash256> {
+	/** Size of the hash in bytes. */
+	public static final int BYTES = 32;
+
+	/** Length of the hexadecimal representation. */
+	public static final int HEX_LENGTH = 64;
+
+	public static final Hash256 ZERO = new Hash256(0, 0, 0, 0);
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final long w0;
+	private final long w1;
+	private final long w2;
+	private final long w3;
+
+	private Hash256(long w0, long w1, long w2, long w3) {
+		this.w0 = w0;
+		this.w1 = w1;
+		this.w2 = w2;
+		this.w3 = w3;
+	}
+
+	/**
+	 * Checks whether the value is a 64-character hexadecimal string, in either case.
+	 *
+	 * @param hex the value to check, may be {@code null}.
+	 * @return {@code true} if {@link #fromHex(String)} would accept the value.
+	 */
+	public static boolean isValid(String hex) {
+		return Checks.isHex(hex, HEX_LENGTH, true);
+	}
+
+	/**
+	 * Parses a 64-character hexadecimal string, in either case.
+	 *
+	 * @param hex the hexadecimal hash.
+	 * @return the parsed hash, or {@code null} if {@code hex} is {@code null}.
+	 * @throws IllegalArgumentException if the value is not a valid 64-character hexadecimal hash.
+	 */
+	@JsonCreator
+	public static Hash256 fromHex(String hex) {
+		if (hex == null) {
+			return null;
+		} else if (!isValid(hex)) {
+			throw new IllegalArgumentException("Invalid hash: The value must be a valid 64-character hexadecimal hash.");
+		}
+		return new Hash256(word(hex, 0), word(hex, 16), word(hex, 32), word(hex, 48));
+	}
+
+	/**
+	 * Creates a hash from the first 32 bytes of the array.
+	 *
+	 * @param bytes the raw hash.
+	 * @return the hash.
+	 */
+	public static Hash256 fromBytes(byte[] bytes) {
+		return fromBytes(bytes, 0);
+	}
+
+	/**
+	 * Creates a hash from 32 bytes of the array starting at {@code offset}.
+	 *
+	 * @param bytes  the array holding the raw hash.
+	 * @param offset the position of the first byte.
+	 * @return the hash.
+	 */
+	public static Hash256 fromBytes(byte[] bytes, int offset) {
+		if (offset < 0 || bytes.length - offset < BYTES) {
+			throw new IllegalArgumentException("Invalid hash: 32 bytes are required.");
+		}
+		return new Hash256(word(bytes, offset), word(bytes, offset + 8), word(bytes, offset + 16), word(bytes, offset + 24));
+	}
+
+	/**
+	 * Reads a hash from the buffer, advancing its position by 32 bytes.
+	 *
+	 * @param buffer the source buffer.
+	 * @return the hash.
+	 */
+	public static Hash256 read(ByteBuffer buffer) {
+		return new Hash256(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+	}
+
+	/**
+	 * Writes the hash to the buffer, advancing its position by 32 bytes.
+	 *
+	 * @param buffer the target buffer.
+	 */
+	public void write(ByteBuffer buffer) {
+		buffer.putLong(w0).putLong(w1).putLong(w2).putLong(w3);
+	}
+
+	/**
+	 * Copies the 32 raw bytes into the array starting at {@code offset}.
+	 *
+	 * @param target the target array.
+	 * @param offset the position of the first byte.
+	 */
+	public void writeTo(byte[] target, int offset) {
+		put(target, offset, w0);
+		put(target, offset + 8, w1);
+		put(target, offset + 16, w2);
+		put(target, offset + 24, w3);
+	}
+
+	/**
+	 * Returns the 32 raw bytes of the hash.
+	 *
+	 * @return a new array holding the hash.
+	 */
+	public byte[] toBytes() {
+		byte[] bytes = new byte[BYTES];
+		writeTo(bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * Returns the lowercase hexadecimal representation.
+	 *
+	 * @return the 64-character hexadecimal hash.
+	 */
+	@JsonValue
+	public String toHex() {
+		char[] out = new char[HEX_LENGTH];
+		hex(out, 0, w0);
+		hex(out, 16, w1);
+		hex(out, 32, w2);
+		hex(out, 48, w3);
+		return new String(out);
+	}
+
+	/**
+	 * Returns the {@code index}-th 64-bit word of the hash, big-endian.
+	 *
+	 * @param index the word index, from 0 to 3.
+	 * @return the word.
+	 */
+	public long word(int index) {
+		return switch (index) {
+		case 0 -> w0;
+		case 1 -> w1;
+		case 2 -> w2;
+		case 3 -> w3;
+		default -> throw new IndexOutOfBoundsException(index);
+		};
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		return obj instanceof Hash256 other && w0 == other.w0 && w1 == other.w1 && w2 == other.w2 && w3 == other.w3;
+	}
+
+	@Override
+	public int hashCode() {
+		// The words of a cryptographic hash are uniformly distributed, so the leading bits are enough
+		return (int) (w0 ^ (w0 >>> 32));
+	}
+
+	@Override
+	public int compareTo(Hash256 other) {
+		int result = Long.compareUnsigned(w0, other.w0);
+		if (result == 0 && (result = Long.compareUnsigned(w1, other.w1)) == 0 && (result = Long.compareUnsigned(w2, other.w2)) == 0) {
+			result = Long.compareUnsigned(w3, other.w3);
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return toHex();
+	}
+
+	private static long word(String hex, int offset) {
+		long word = 0;
+		for (int i = offset; i < offset + 16; i++) {
+			word = (word << 4) | Character.digit(hex.charAt(i), 16);
+		}
+		return word;
+	}
+
+	private static long word(byte[] bytes, int offset) {
+		long word = 0;
+		for (int i = offset; i < offset + 8; i++) {
+			word = (word << 8) | (bytes[i] & 0xffL);
+		}
+		return word;
+	}
+
+	private static void put(byte[] target, int offset, long word) {
+		for (int i = offset + 7; i >= offset; i--) {
+			target[i] = (byte) word;
+			word >>>= 8;
+		}
+	}
+
+	private static void hex(char[] out, int offset, long word) {
+		for (int i = offset + 15; i >= offset; i--) {
+			out[i] = HEX[(int) (word & 0x0f)];
+			word >>>= 4;
+		}
+	}
+}
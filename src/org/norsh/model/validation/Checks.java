@@ -0,0 +1,161 @@
+package org.norsh.model.validation;
+
+/**
+ * Allocation-free field checks used by the generated DTO validators.
+ * <p>
+ * These methods replace per-call regular expressions such as {@code value.matches("^[a-f0-9]{64}$")}, which compile a
+ * new {@link java.util.regex.Pattern} on every invocation. All checks are plain loops over the characters and never
+ * allocate.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+public final class Checks {
+	/** Returned by {@link #decimalSignum(String)} when the value is not a valid decimal number. */
+	public static final int NOT_A_NUMBER = Integer.MIN_VALUE;
+
+	/** Largest number of significant exponent digits accepted, keeping the exponent within {@code int} range. */
+	private static final int MAX_EXPONENT_DIGITS = 9;
+
+	private Checks() {
+	}
+
+	/**
+	 * Checks whether the value is a hexadecimal string of the exact given length.
+	 *
+	 * @param value      the value to check, may be {@code null}.
+	 * @param length     the required number of characters.
+	 * @param ignoreCase whether {@code A-F} are accepted in addition to {@code a-f}.
+	 * @return {@code true} if the value is non-null, has the given length and contains only hexadecimal digits.
+	 */
+	public static boolean isHex(String value, int length, boolean ignoreCase) {
+		if (value == null || value.length() != length) {
+			return false;
+		}
+
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if ((c < '0' || c > '9') && (c < 'a' || c > 'f') && (!ignoreCase || c < 'A' || c > 'F')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the value consists only of uppercase letters ({@code A-Z}) within the given length bounds.
+	 *
+	 * @param value     the value to check, may be {@code null}.
+	 * @param minLength the minimum number of letters.
+	 * @param maxLength the maximum number of letters.
+	 * @return {@code true} if the value matches {@code ^[A-Z]{minLength,maxLength}$}.
+	 */
+	public static boolean isUpperAlpha(String value, int minLength, int maxLength) {
+		return value != null && isUpperAlpha(value, value.length(), minLength, maxLength);
+	}
+
+	/**
+	 * Checks whether the value is made of {@code minLength} to {@code maxLength} uppercase letters followed by the
+	 * literal {@code suffix}.
+	 *
+	 * @param value     the value to check, may be {@code null}.
+	 * @param minLength the minimum number of letters before the suffix.
+	 * @param maxLength the maximum number of letters before the suffix.
+	 * @param suffix    the required literal suffix.
+	 * @return {@code true} if the value matches {@code ^[A-Z]{minLength,maxLength}} followed by {@code suffix}.
+	 */
+	public static boolean isUpperAlpha(String value, int minLength, int maxLength, String suffix) {
+		return value != null && value.endsWith(suffix) && isUpperAlpha(value, value.length() - suffix.length(), minLength, maxLength);
+	}
+
+	private static boolean isUpperAlpha(String value, int end, int minLength, int maxLength) {
+		if (end < minLength || end > maxLength) {
+			return false;
+		}
+
+		for (int i = 0; i < end; i++) {
+			char c = value.charAt(i);
+			if (c < 'A' || c > 'Z') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Parses the sign of a decimal number without creating a {@link java.math.BigDecimal}.
+	 * <p>
+	 * The accepted grammar is the one of {@link java.math.BigDecimal#BigDecimal(String)} restricted to ASCII digits:
+	 * an optional sign, digits with an optional decimal point (at least one digit overall) and an optional exponent.
+	 * </p>
+	 *
+	 * @param value the value to parse, may be {@code null}.
+	 * @return {@code -1}, {@code 0} or {@code 1} for negative, zero and positive values, or {@link #NOT_A_NUMBER} if
+	 *         the value is {@code null} or malformed.
+	 */
+	public static int decimalSignum(String value) {
+		if (value == null) {
+			return NOT_A_NUMBER;
+		}
+
+		int length = value.length();
+		int i = 0;
+		boolean negative = false;
+
+		if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+			negative = value.charAt(i) == '-';
+			i++;
+		}
+
+		boolean digits = false;
+		boolean nonZero = false;
+		boolean point = false;
+
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digits = true;
+				nonZero |= c != '0';
+			} else if (c == '.' && !point) {
+				point = true;
+			} else {
+				break;
+			}
+		}
+
+		if (!digits) {
+			return NOT_A_NUMBER;
+		}
+
+		if (i < length) {
+			char c = value.charAt(i++);
+			if (c != 'e' && c != 'E') {
+				return NOT_A_NUMBER;
+			}
+			if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+				i++;
+			}
+			if (i == length) {
+				return NOT_A_NUMBER;
+			}
+
+			int significant = 0;
+			for (; i < length; i++) {
+				c = value.charAt(i);
+				if (c < '0' || c > '9') {
+					return NOT_A_NUMBER;
+				}
+				if (significant > 0 || c != '0') {
+					significant++;
+				}
+			}
+			if (significant > MAX_EXPONENT_DIGITS) {
+				return NOT_A_NUMBER;
+			}
+		}
+
+		return !nonZero ? 0 : negative ? -1 : 1;
+	}
+}
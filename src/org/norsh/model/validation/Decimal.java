@@ -0,0 +1,31 @@
+package org.norsh.model.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Constraint for {@code String} fields carrying a decimal number in the format accepted by
+ * {@link java.math.BigDecimal#BigDecimal(String)}.
+ * <p>
+ * The value is checked without creating a {@code BigDecimal}. A {@code null} value is reported with {@link #message()};
+ * combine with {@link NotBlank} when a dedicated message is needed for missing values.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see Checks#decimalSignum(String)
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Decimal {
+	/** Message reported when the value is not a valid decimal number. */
+	String message();
+
+	/** Message reported when the value is negative. Negative values are accepted when empty. */
+	String negativeMessage() default "";
+}
@@ -0,0 +1,38 @@
+package org.norsh.model.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Constraint for {@code String} fields holding a fixed-length hexadecimal value, such as a SHA-256 hash.
+ * <p>
+ * A {@code null} value violates the constraint. Only lowercase digits are accepted unless {@link #ignoreCase()} is set.
+ * </p>
+ *
+ * <h2>Example Usage:</h2>
+ * <pre>
+ * &#64;Hex(length = 64, message = "Invalid to: The 'to' field must be a valid 64-character hexadecimal hash.")
+ * private String to;
+ * </pre>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see Checks#isHex(String, int, boolean)
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Hex {
+	/** Exact number of hexadecimal characters. */
+	int length();
+
+	/** Whether uppercase digits ({@code A-F}) are also accepted. */
+	boolean ignoreCase() default false;
+
+	/** Message reported when the constraint is violated. */
+	String message();
+}
@@ -0,0 +1,32 @@
+package org.norsh.model.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Constraint for integral fields ({@code byte}, {@code short}, {@code int}, {@code long} and their wrappers) that must
+ * lie within an inclusive range.
+ * <p>
+ * A {@code null} wrapper value violates the constraint.
+ * </p>
+ *
+ * @since 1.0.0
+ * @version 1.0.0
+ * @see <a href="https://docs.norsh.org">Norsh Documentation</a>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Range {
+	/** Inclusive lower bound. */
+	long min() default Long.MIN_VALUE;
+
+	/** Inclusive upper bound. */
+	long max() default Long.MAX_VALUE;
+
+	/** Message reported when the constraint is violated. */
+	String message();
+}
@@ -0,0 +1,48 @@
+package org.norsh.model.dtos.elements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.norsh.exceptions.OperationException;
+import org.norsh.model.hashing.CanonicalHasher;
+import org.norsh.model.types.ElementType;
+
+/**
+ * Hashing rules of {@link ElementCreateDto#validate()}.
+ */
+class ElementCreateDtoTest {
+	private static final String PUBLIC_KEY = "04b7e4c3f0d1a2e5c6b7a8f9e0d1c2b3a4f5e6d7c8b9a0f1e2d3c4b5a6f7e8d9c0";
+	private static final String CLAIMED = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+	@Test
+	void replacesReceivedHashWithComputedOne() throws OperationException {
+		ElementCreateDto dto = element(ElementType.TOKEN);
+		dto.setHash(CLAIMED);
+		dto.validate();
+
+		assertNotEquals(CLAIMED, dto.getHash());
+		assertEquals(CanonicalHasher.toHex(CanonicalHasher.digest(dto)), dto.getHash());
+	}
+
+	@Test
+	void rejectsTypesWithoutCanonicalHash() {
+		for (ElementType type : new ElementType[] { ElementType.COIN, ElementType.INFRASTRUCTURE, null }) {
+			ElementCreateDto dto = element(type);
+			dto.setHash(CLAIMED);
+			OperationException ex = assertThrows(OperationException.class, dto::validate);
+			assertEquals("Invalid type: The 'type' field is required and must be TOKEN or PROXY.", ex.getMessage());
+		}
+	}
+
+	private static ElementCreateDto element(ElementType type) {
+		ElementCreateDto dto = new ElementCreateDto();
+		dto.setType(type);
+		dto.setSymbol("NSHX");
+		dto.setDecimals(8);
+		dto.setInitialSupply(1_000L);
+		dto.setPublicKey(PUBLIC_KEY);
+		return dto;
+	}
+}
@@ -0,0 +1,173 @@
+package org.norsh.model.hashing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.norsh.model.dtos.elements.ElementCreateDto;
+import org.norsh.model.dtos.elements.ElementMetadataDto;
+import org.norsh.model.dtos.elements.ElementNetworkDto;
+import org.norsh.model.dtos.elements.ElementPolicyDto;
+import org.norsh.model.dtos.transactions.PaymentCreateDto;
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.types.ElementType;
+import org.norsh.model.types.Networks;
+import org.norsh.security.Hasher;
+import org.norsh.util.Strings;
+
+/**
+ * Golden hashes of the signed DTOs.
+ * <p>
+ * Hashes are part of the signed message, so every expected value is pinned here. For the DTOs hashed as
+ * {@code Hasher.sha256Hex(Strings.concatenate(...))} before the streaming encoder, the legacy computation is checked
+ * against the same value. A failure means signatures made by other nodes no longer verify.
+ * </p>
+ */
+class CanonicalHasherTest {
+	private static final String TO = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+	private static final String ELEMENT = "2c26b46b68ffc68ff99b453c1d30413413422d706483bfa0f98a5e886266e7ae";
+	private static final String PUBLIC_KEY = "04b7e4c3f0d1a2e5c6b7a8f9e0d1c2b3a4f5e6d7c8b9a0f1e2d3c4b5a6f7e8d9c0";
+
+	@Test
+	void transactionCreate() {
+		TransactionCreateDto dto = transaction(TO, ELEMENT, "12.50", 7L, PUBLIC_KEY);
+		assertGolden("651c47923f5361734e34b4b159f8e0a7d164f972bc33d93fe011703bf4e3862f", dto, TO, ELEMENT, "12.50", 7L, PUBLIC_KEY);
+	}
+
+	@Test
+	void transactionCreateWithNullFields() {
+		TransactionCreateDto dto = transaction(null, ELEMENT, null, null, PUBLIC_KEY);
+		assertGolden("cd94ea4a23890031789e28abf67162fd3ee001bbf4692059b6b9dc20f89cc3ae", dto, null, ELEMENT, null, null, PUBLIC_KEY);
+	}
+
+	@Test
+	void transactionCreateWithNegativeNonce() {
+		TransactionCreateDto dto = transaction(TO, ELEMENT, "0", Long.MIN_VALUE, null);
+		assertGolden("3600da1a2732ac2bae116ebd1d7630af234d632367532d7940a677b518aec163", dto, TO, ELEMENT, "0", Long.MIN_VALUE, null);
+	}
+
+	@Test
+	void transactionCreateWithSurrogatePairs() {
+		TransactionCreateDto dto = transaction("😀 café €", ELEMENT, "1", 1L, "𝄞");
+		assertGolden("7501041b7c148516485c5c12a57a2662bc136be939dd87b4753313dd2847911a", dto, "😀 café €", ELEMENT, "1", 1L, "𝄞");
+	}
+
+	@Test
+	void transactionCreateWithSurrogatePairAcrossFields() {
+		// The legacy concatenation joins a high surrogate ending one field with a low surrogate starting the next
+		TransactionCreateDto dto = transaction("a\ud83d", null, "\ude00b", null, "\ud800");
+		assertGolden("cabe0863f094c43bab1034be6f8c0050de8c5110c47a2a6447a3f9067923249d", dto, "a\ud83d", null, "\ude00b", null, "\ud800");
+	}
+
+	@Test
+	void everyEncodingRuleMatchesLegacyConcatenation() {
+		// Non-ASCII text, surrogate pairs, nulls, negatives, decimals and enums in one preimage
+		CanonicalHashable probe = sink -> sink
+				.put("Norsh-\u00e9\u20ac\ud83d\ude00")
+				.put((String) null)
+				.put(Long.MIN_VALUE)
+				.put((Long) null)
+				.put(Integer.valueOf(-7))
+				.put(new BigDecimal("1.50E+3"))
+				.put(ElementType.TOKEN)
+				.put((Enum<?>) null);
+		assertEquals(Hasher.sha256Hex(Strings.concatenate("Norsh-\u00e9\u20ac\ud83d\ude00", null, Long.MIN_VALUE, null, -7, new BigDecimal("1.50E+3"), ElementType.TOKEN, null)),
+				CanonicalHasher.toHex(CanonicalHasher.digest(probe)));
+	}
+
+	@Test
+	void paymentCreate() {
+		PaymentCreateDto dto = new PaymentCreateDto();
+		dto.setTo(TO);
+		dto.setElement(ELEMENT);
+		dto.setVolume(new BigDecimal("1.50E+3"));
+		dto.setNonce(42L);
+		dto.setLink("https://norsh.org/pay?é");
+		dto.setPublicKey(PUBLIC_KEY);
+		assertGolden("fbc0cfed09fcc7f0d47d6c782424b50df7d0a429105f0d794f449ac4310f97dd", dto, TO, ELEMENT, new BigDecimal("1.50E+3"), 42L, "https://norsh.org/pay?é", PUBLIC_KEY);
+	}
+
+	@Test
+	void paymentCreateWithNullFields() {
+		PaymentCreateDto dto = new PaymentCreateDto();
+		dto.setTo(TO);
+		dto.setNonce(null);
+		dto.setPublicKey(PUBLIC_KEY);
+		assertGolden("632adfe7b5a06e3bf39817b8948ecc509ad05a6a6997cca2d0640905b2d050e5", dto, TO, null, null, null, null, PUBLIC_KEY);
+	}
+
+	@Test
+	void elementCreateToken() {
+		ElementCreateDto dto = new ElementCreateDto();
+		dto.setType(ElementType.TOKEN);
+		dto.setSymbol("NSH");
+		dto.setDecimals(8);
+		dto.setInitialSupply(21_000_000L);
+		assertGolden("57e3393d3d78dd033f903c6b8aaed95a37da35b232c8285a960491688bb13666", dto, "NSH", 8, 21_000_000L);
+	}
+
+	@Test
+	void elementCreateCoinWithNullFields() {
+		ElementCreateDto dto = new ElementCreateDto();
+		dto.setType(ElementType.COIN);
+		dto.setSymbol("🪙");
+		dto.setInitialSupply(5L);
+		assertGolden("243342021f7943f2981f132f94a896978706561ab3f4b112c7d9460ef261d02e", dto, "🪙", null);
+	}
+
+	@Test
+	void elementPolicy() {
+		ElementPolicyDto dto = new ElementPolicyDto();
+		dto.setId(ELEMENT);
+		dto.setTransactionTax(2.5);
+		dto.setFreezeDuration(48);
+		dto.setPublicKey(PUBLIC_KEY);
+		dto.setTransaction(transaction(TO, ELEMENT, "10", 3L, PUBLIC_KEY));
+		assertComposite("e39d847059c82cfa196d9c9fa5d77bfc84b89f45895a71b51e8610f4b7a9e737", dto);
+
+		dto.setTransaction(null);
+		assertComposite("c98f4574c1403aa4f084ffaff899e0a29737463664042d80a0752303d8330d8f", dto);
+	}
+
+	@Test
+	void elementNetwork() {
+		ElementNetworkDto dto = new ElementNetworkDto();
+		dto.setId(ELEMENT);
+		dto.setNetwork(Networks.ETHEREUM);
+		dto.setAddress("0x00000000219ab540356cBB839Cbe05303d7705Fa");
+		dto.setPublicKey(PUBLIC_KEY);
+		dto.setTransaction(transaction(TO, ELEMENT, "10", 4L, PUBLIC_KEY));
+		assertComposite("80365be47d3cc42e5c62a286cb8a56829cd786fdb18439e527bf03fc42d11aaa", dto);
+	}
+
+	@Test
+	void elementMetadata() {
+		ElementMetadataDto dto = new ElementMetadataDto();
+		dto.setId(ELEMENT);
+		dto.setName("Norsh é😀");
+		dto.setSite("https://norsh.org");
+		dto.setPublicKey(PUBLIC_KEY);
+		dto.setTransaction(transaction(TO, ELEMENT, "10", 5L, PUBLIC_KEY));
+		assertComposite("ad0632cd5531880d710f820d977fbf69be517cbd36309b6c9dab87e04c57b3bd", dto);
+	}
+
+	private static TransactionCreateDto transaction(String to, String element, String volume, Long nonce, String publicKey) {
+		TransactionCreateDto dto = new TransactionCreateDto();
+		dto.setTo(to);
+		dto.setElement(element);
+		dto.setVolume(volume);
+		dto.setNonce(nonce);
+		dto.setPublicKey(publicKey);
+		return dto;
+	}
+
+	private static void assertGolden(String expected, CanonicalHashable value, Object... legacyFields) {
+		assertEquals(expected, Hasher.sha256Hex(Strings.concatenate(legacyFields)), "legacy hash");
+		assertEquals(expected, CanonicalHasher.toHex(CanonicalHasher.digest(value)), "streaming hash");
+	}
+
+	private static void assertComposite(String expected, CompositeHashable value) {
+		assertEquals(expected, CanonicalHasher.toHex(CompositeHasher.digest(value)), "composite hash");
+	}
+}
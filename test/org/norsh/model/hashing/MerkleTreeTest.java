@@ -0,0 +1,138 @@
+package org.norsh.model.hashing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Golden roots and inclusion proofs of {@link MerkleTree}.
+ * <p>
+ * Expected values were computed independently from the RFC 9162 definitions, with entry {@code i} of the small trees
+ * being 32 bytes of value {@code i}. Roots and proofs are exchanged between nodes, so a failure means proofs made by
+ * other nodes no longer verify.
+ * </p>
+ */
+class MerkleTreeTest {
+	@Test
+	void roots() {
+		assertRoot("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", 0);
+		assertRoot("7f9c9e31ac8256ca2f258583df262dbc7d6f68f2a03043d5c99a4ae5a7396ce9", 1);
+		assertRoot("28fb81e496897e0ce886f08602392e9239b65c659041e5202163e58ad898f444", 2);
+		assertRoot("ba8d94b7fbcecae7b81c4c80574fe24734a6917bf9c1ecd66ff3e0c34ead4620", 3);
+		assertRoot("85e20cac1f02fda7bcdb2fc3f908568c57018c77815f1fa361acad13994f08bf", 5);
+		assertRoot("7318881c41fce3c1de3640df8e8c110c93f43f686b74204a9d1ad5b8c71c2047", 7);
+		assertRoot("f907f23f76aa01b755a614d31ef9832909f44638b4590073301e61e6d01f9a1d", 8);
+	}
+
+	@Test
+	void proofs() {
+		MerkleTree tree = tree(7);
+		assertProof(tree, 0, "dcffe786ded16d283c663846ad0c4ff26558fccde36ca9d30b2ea19eade9fc0e",
+				"fc264939b1ac77b06378c5ece54a7b57b6b6c821eb80627bb674d8785c8dc8ca",
+				"1f3f95843413191fe7521996b6b1e4147d703b1702c475a478ad25a6f6b415b4");
+		assertProof(tree, 3, "cba8c596120bdb69debbd923d92cba948bde7c7d06a465a1bb7d98d3116038fa",
+				"28fb81e496897e0ce886f08602392e9239b65c659041e5202163e58ad898f444",
+				"1f3f95843413191fe7521996b6b1e4147d703b1702c475a478ad25a6f6b415b4");
+		// The last entry of an unbalanced tree has a shorter path
+		assertProof(tree, 6, "f1c176552a35e1d035f843d463220b6c85a90ea7f6644980630a6f71a3330ed3",
+				"fdea52008cdae79fa8bf806261959e23f5e11681646a2fa2bc9b5e56b32030a2");
+	}
+
+	@Test
+	void appendAllMatchesAppendAcrossSplits() {
+		byte[][] entries = new byte[5000][];
+		for (int i = 0; i < entries.length; i++) {
+			entries[i] = sha256(Integer.toString(i));
+		}
+
+		MerkleTree single = new MerkleTree();
+		for (byte[] entry : entries) {
+			single.append(entry);
+		}
+
+		// Batches start mid-subtree and exceed the split threshold of the fork-join tasks
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			MerkleTree bulk = new MerkleTree(pool);
+			int from = 0;
+			for (int batch : new int[] { 1, 2, 5, 0, 2048, 2944 }) {
+				assertEquals(from, bulk.appendAll(Arrays.copyOfRange(entries, from, from + batch)));
+				from += batch;
+			}
+			assertEquals(entries.length, bulk.size());
+
+			String root = "e2e81d9147fab17c274c464803683a77ab6f74129f9e76e4fe9717589beac189";
+			assertEquals(root, CanonicalHasher.toHex(single.root()));
+			assertEquals(root, CanonicalHasher.toHex(bulk.root()));
+			for (int index : new int[] { 0, 7, 2047, 2048, 4095, 4096, 4999 }) {
+				assertArrayEquals(single.leaf(index), bulk.leaf(index));
+				assertTrue(bulk.proof(index).verify(bulk.root(), entries[index]));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void verify() {
+		for (int size = 1; size <= 17; size++) {
+			MerkleTree tree = tree(size);
+			byte[] root = tree.root();
+			for (int index = 0; index < size; index++) {
+				MerkleProof proof = tree.proof(index);
+				assertTrue(MerkleTree.verify(root, entry(index), proof), size + "/" + index);
+				assertFalse(MerkleTree.verify(root, entry(index + 1), proof), "wrong entry");
+				if (size > 1) {
+					assertFalse(MerkleTree.verify(root, entry(index), new MerkleProof((index + 1) % size, size, proof.getPath())), "wrong index");
+					assertFalse(MerkleTree.verify(root, entry(index), new MerkleProof(index, size, Arrays.copyOf(proof.getPath(), proof.getPath().length - 1))), "truncated path");
+				}
+			}
+		}
+
+		MerkleTree tree = tree(7);
+		MerkleProof proof = tree.proof(3);
+		assertFalse(MerkleTree.verify(tree(8).root(), entry(3), proof), "root of another tree");
+		assertFalse(MerkleTree.verify(tree.root(), entry(3), new MerkleProof(3, 3, proof.getPath())), "index outside size");
+		assertFalse(MerkleTree.verify(tree.root(), new byte[31], proof), "short entry");
+	}
+
+	private static void assertRoot(String expected, int size) {
+		assertEquals(expected, CanonicalHasher.toHex(tree(size).root()), size + " entries");
+	}
+
+	private static void assertProof(MerkleTree tree, long index, String... expected) {
+		MerkleProof proof = tree.proof(index);
+		assertEquals(index, proof.getIndex());
+		assertEquals(tree.size(), proof.getSize());
+		assertEquals(expected.length, proof.getPath().length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], CanonicalHasher.toHex(proof.getPath()[i]), "sibling " + i);
+		}
+		assertTrue(proof.verify(tree.root(), entry((int) index)));
+	}
+
+	private static MerkleTree tree(int size) {
+		MerkleTree tree = new MerkleTree();
+		for (int i = 0; i < size; i++) {
+			tree.append(entry(i));
+		}
+		return tree;
+	}
+
+	private static byte[] entry(int i) {
+		byte[] entry = new byte[32];
+		Arrays.fill(entry, (byte) i);
+		return entry;
+	}
+
+	private static byte[] sha256(String value) {
+		return CanonicalHasher.sha256().digest(value.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,69 @@
+package org.norsh.model.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.norsh.exceptions.OperationStatus;
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.hashing.CanonicalHasher;
+import org.norsh.model.hashing.CompositeHasher;
+import org.norsh.model.transport.DataTransfer;
+import org.norsh.rest.RestMethod;
+
+/**
+ * Hash stage and results of {@link ValidationPipeline}.
+ */
+class ValidationPipelineTest {
+	private static final String TO = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+	private static final String ELEMENT = "2c26b46b68ffc68ff99b453c1d30413413422d706483bfa0f98a5e886266e7ae";
+	private static final String PUBLIC_KEY = "04b7e4c3f0d1a2e5c6b7a8f9e0d1c2b3a4f5e6d7c8b9a0f1e2d3c4b5a6f7e8d9c0";
+
+	@Test
+	void rejectsReceivedHashOfOtherFields() throws InterruptedException {
+		TransactionCreateDto dto = transaction("12.50");
+		dto.setHash(CanonicalHasher.toHex(CompositeHasher.partDigest(dto)));
+		dto.setSignature("3045");
+		dto.setVolume("99");
+
+		DataTransfer result = validate(ValidationPipeline.builder(), dto, RestMethod.POST);
+		assertEquals(OperationStatus.ERROR, result.getStatus());
+		assertTrue(result.getMessage().startsWith("Invalid hash:"), result.getMessage());
+	}
+
+	@Test
+	void keepsMatchingReceivedHash() throws InterruptedException {
+		TransactionCreateDto dto = transaction("12.50");
+		String hash = CanonicalHasher.toHex(CompositeHasher.partDigest(dto));
+		dto.setHash(hash);
+
+		DataTransfer result = validate(ValidationPipeline.builder(), dto, RestMethod.POST);
+		assertEquals(hash, dto.getHash());
+		assertFalse(result.getMessage().startsWith("Invalid hash:"), result.getMessage());
+	}
+
+	@Test
+	void carriesTheSubmittedMethod() throws InterruptedException {
+		assertEquals(RestMethod.PUT, validate(ValidationPipeline.builder(), transaction("1"), RestMethod.PUT).getMethod());
+		try (ValidationPipeline pipeline = ValidationPipeline.builder().method(RestMethod.PUT).build()) {
+			assertEquals(RestMethod.PUT, pipeline.submit(transaction("1")).join().getMethod());
+		}
+	}
+
+	private static DataTransfer validate(ValidationPipeline.Builder builder, TransactionCreateDto dto, RestMethod method) throws InterruptedException {
+		try (ValidationPipeline pipeline = builder.build()) {
+			return pipeline.submit(dto, method).join();
+		}
+	}
+
+	private static TransactionCreateDto transaction(String volume) {
+		TransactionCreateDto dto = new TransactionCreateDto();
+		dto.setTo(TO);
+		dto.setElement(ELEMENT);
+		dto.setVolume(volume);
+		dto.setNonce(7L);
+		dto.setPublicKey(PUBLIC_KEY);
+		return dto;
+	}
+}
@@ -0,0 +1,46 @@
+package org.norsh.model.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Replay window and idle eviction of {@link NonceTracker}.
+ */
+class NonceTrackerTest {
+	private final AtomicLong clock = new AtomicLong();
+	private final NonceTracker nonces = new NonceTracker(64, 0, Duration.ofNanos(100), clock::get);
+
+	@Test
+	void rejectsReplayedNonces() {
+		assertEquals(NonceStatus.ACCEPTED, nonces.check("alice", 5L));
+		assertEquals(NonceStatus.REPLAYED, nonces.check("alice", 5L));
+		assertEquals(NonceStatus.ACCEPTED, nonces.check("alice", 3L));
+	}
+
+	@Test
+	void evictsIdleSenders() {
+		nonces.check("alice", 1L);
+		clock.set(60);
+		nonces.check("bob", 1L);
+		assertEquals(2, nonces.size());
+
+		clock.set(120);
+		nonces.check("bob", 2L);
+		assertEquals(1, nonces.size());
+		assertEquals(-1, nonces.highest("alice"));
+		assertEquals(2, nonces.highest("bob"));
+	}
+
+	@Test
+	void keepsEveryoneWithoutIdleTimeout() {
+		NonceTracker tracker = new NonceTracker(64, 0, Duration.ZERO, clock::get);
+		tracker.check("alice", 1L);
+		clock.set(Long.MAX_VALUE);
+		tracker.check("bob", 1L);
+		assertEquals(2, tracker.size());
+	}
+}
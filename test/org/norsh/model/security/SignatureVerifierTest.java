@@ -0,0 +1,68 @@
+package org.norsh.model.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+
+import org.junit.jupiter.api.Test;
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.hashing.CanonicalHasher;
+
+/**
+ * Agreement of {@link SignatureVerifier} with common's {@code org.norsh.security.Signature.verifyHash}, which
+ * defines what a valid signature is.
+ */
+class SignatureVerifierTest {
+	private static final String HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+	private static final String OTHER_HASH = "2c26b46b68ffc68ff99b453c1d30413413422d706483bfa0f98a5e886266e7ae";
+
+	@Test
+	void agreesWithCommonOnValidAndTamperedSignatures() throws GeneralSecurityException {
+		KeyPair keys = keyPair();
+		String publicKey = CanonicalHasher.toHex(keys.getPublic().getEncoded());
+		byte[] signature = sign(keys, HASH);
+		String signatureHex = CanonicalHasher.toHex(signature);
+
+		assertTrue(org.norsh.security.Signature.verifyHash(publicKey, signatureHex, HASH));
+		assertTrue(SignatureVerifier.verify(keys.getPublic(), signature, HASH));
+
+		assertFalse(org.norsh.security.Signature.verifyHash(publicKey, signatureHex, OTHER_HASH));
+		assertFalse(SignatureVerifier.verify(keys.getPublic(), signature, OTHER_HASH));
+
+		KeyPair other = keyPair();
+		assertFalse(org.norsh.security.Signature.verifyHash(CanonicalHasher.toHex(other.getPublic().getEncoded()), signatureHex, HASH));
+		assertFalse(SignatureVerifier.verify(other.getPublic(), signature, HASH));
+	}
+
+	@Test
+	void verifiesDtoWithCachedKey() throws GeneralSecurityException {
+		KeyPair keys = keyPair();
+		TransactionCreateDto dto = new TransactionCreateDto();
+		dto.setPublicKey(CanonicalHasher.toHex(keys.getPublic().getEncoded()));
+		dto.setHash(HASH);
+		dto.setSignature(CanonicalHasher.toHex(sign(keys, HASH)));
+
+		assertEquals(SignatureStatus.VALID, SignatureVerifier.verify(dto).getStatus());
+		dto.setHash(OTHER_HASH);
+		assertEquals(SignatureStatus.INVALID, SignatureVerifier.verify(dto).getStatus());
+	}
+
+	private static KeyPair keyPair() throws GeneralSecurityException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(new ECGenParameterSpec("secp256r1"));
+		return generator.generateKeyPair();
+	}
+
+	private static byte[] sign(KeyPair keys, String hash) throws GeneralSecurityException {
+		java.security.Signature signer = java.security.Signature.getInstance(SignatureVerifier.ALGORITHM);
+		signer.initSign(keys.getPrivate());
+		signer.update(hash.getBytes(StandardCharsets.UTF_8));
+		return signer.sign();
+	}
+}
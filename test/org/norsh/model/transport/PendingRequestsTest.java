@@ -0,0 +1,57 @@
+package org.norsh.model.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.norsh.exceptions.OperationException;
+import org.norsh.exceptions.OperationStatus;
+
+/**
+ * Correlation and timeouts of {@link PendingRequests}.
+ */
+class PendingRequestsTest {
+	private final AtomicLong clock = new AtomicLong();
+	private final PendingRequests pending = new PendingRequests(4, Duration.ofNanos(10), clock::get, false);
+
+	@Test
+	void survivesChurnPastTheTableLength() throws OperationException {
+		CompletableFuture<DataTransfer> kept = pending.register(new DataTransfer("kept", OperationStatus.PROCESSING), Duration.ofNanos(1_000));
+		for (int i = 0; i < 1_000; i++) {
+			String requestId = "request-" + i;
+			pending.register(new DataTransfer(requestId, OperationStatus.PROCESSING), Duration.ofNanos(1_000));
+			assertTrue(pending.isPending(requestId));
+			assertTrue(pending.complete(new DataTransfer(requestId, OperationStatus.OK)));
+			assertFalse(pending.isPending(requestId));
+		}
+
+		assertEquals(1, pending.size());
+		assertTrue(pending.isPending("kept"));
+		DataTransfer response = new DataTransfer("kept", OperationStatus.OK);
+		assertTrue(pending.complete(response));
+		assertSame(response, kept.join());
+	}
+
+	@Test
+	void completedRequestDoesNotTimeOut() throws OperationException {
+		CompletableFuture<DataTransfer> first = pending.register(new DataTransfer("a", OperationStatus.PROCESSING), Duration.ofNanos(30));
+		CompletableFuture<DataTransfer> second = pending.register(new DataTransfer("b", OperationStatus.PROCESSING), Duration.ofNanos(30));
+		pending.advance();
+
+		DataTransfer response = new DataTransfer("a", OperationStatus.OK);
+		assertTrue(pending.complete(response));
+		pending.advance();
+
+		clock.set(100);
+		pending.advance();
+		assertSame(response, first.join());
+		assertEquals(OperationStatus.TIMEOUT, second.join().getStatus());
+		assertEquals(0, pending.size());
+	}
+}
@@ -0,0 +1,88 @@
+package org.norsh.model.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.norsh.exceptions.OperationStatus;
+
+/**
+ * Eviction of requests in {@link StatusPublisher}.
+ */
+class StatusPublisherTest {
+	private final AtomicLong clock = new AtomicLong();
+	private final StatusPublisher publisher = new StatusPublisher(Runnable::run, 10, Duration.ofNanos(100), clock::get);
+
+	@Test
+	void forgetsEmptyRequestWhenLastSubscriptionCancels() {
+		Recorder first = new Recorder();
+		Recorder second = new Recorder();
+		publisher.subscribe("a", first);
+		publisher.subscribe("a", second);
+
+		first.subscription.cancel();
+		assertEquals(1, publisher.size());
+		second.subscription.cancel();
+		assertEquals(0, publisher.size());
+	}
+
+	@Test
+	void keepsRequestWithStatusWhenSubscriptionCancels() {
+		publisher.publish(new DataTransfer("a", OperationStatus.PROCESSING));
+		Recorder recorder = new Recorder();
+		publisher.subscribe("a", recorder);
+		recorder.subscription.cancel();
+		assertEquals(1, publisher.size());
+	}
+
+	@Test
+	void forgetsInactiveOpenRequests() {
+		Recorder recorder = new Recorder();
+		publisher.subscribe("a", recorder);
+		publisher.publish(new DataTransfer("b", OperationStatus.PROCESSING));
+		publisher.publish(new DataTransfer("c", OperationStatus.OK));
+
+		clock.set(100);
+		publisher.publish(new DataTransfer("d", OperationStatus.PROCESSING));
+
+		assertEquals(2, publisher.size());
+		assertTrue(recorder.completed);
+		assertEquals(0, recorder.received.size());
+
+		Recorder late = new Recorder();
+		publisher.subscribe("c", late);
+		assertEquals(OperationStatus.OK, late.received.get(0).getStatus());
+	}
+
+	private static final class Recorder implements Flow.Subscriber<DataTransfer> {
+		private final List<DataTransfer> received = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private boolean completed;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(DataTransfer item) {
+			received.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package org.norsh.model.transport.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.dtos.transactions.TransactionGetDto;
+
+/**
+ * Wire compatibility of {@link BinarySchema} and the string and hash encodings of {@link BinaryWriter}.
+ */
+class BinarySchemaTest {
+	private static final String HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+	@Test
+	void loneSurrogateIsWrittenAsQuestionMark() {
+		BinaryWriter out = new BinaryWriter(16).writeString("a\ud800");
+		assertArrayEquals(new byte[] { 2, 'a', '?' }, written(out));
+		assertEquals("a?", new BinaryReader(out.buffer().flip()).readString());
+	}
+
+	@Test
+	void nonAsciiSuffixIsUtf8Encoded() {
+		BinaryWriter out = new BinaryWriter(16).writeString("abé😀");
+		assertEquals("abé😀", new BinaryReader(out.buffer().flip()).readString());
+	}
+
+	@Test
+	void olderReaderSkipsUnknownTrailingFields() {
+		BinarySchema<TransactionGetDto> older = BinarySchema.builder(TransactionGetDto.class, TransactionGetDto::new)
+				.field(TransactionGetDto::getId, TransactionGetDto::setId, ValueCodec.HASH)
+				.build();
+		BinarySchema<TransactionGetDto> newer = BinarySchema.builder(TransactionGetDto.class, TransactionGetDto::new)
+				.field(TransactionGetDto::getId, TransactionGetDto::setId, ValueCodec.HASH)
+				.extensions()
+				.field(TransactionGetDto::getRequestId, TransactionGetDto::setRequestId, ValueCodec.STRING)
+				.build();
+
+		TransactionGetDto dto = new TransactionGetDto();
+		dto.setId(HASH);
+		dto.setRequestId("request-1");
+
+		BinaryWriter out = new BinaryWriter(64);
+		newer.write(out, dto);
+		out.writeByte(42);
+
+		BinaryReader in = new BinaryReader(out.buffer().flip());
+		TransactionGetDto decoded = older.read(in);
+		assertEquals(HASH, decoded.getId());
+		assertNull(decoded.getRequestId());
+		assertEquals(42, in.readByte());
+
+		TransactionGetDto current = newer.read(new BinaryReader(out.buffer().rewind()));
+		assertEquals("request-1", current.getRequestId());
+	}
+
+	@Test
+	void receivedHashIsNotTakenAsDigest() {
+		TransactionCreateDto dto = new TransactionCreateDto();
+		dto.setTo(HASH);
+		dto.setHash(HASH);
+
+		BinaryWriter out = new BinaryWriter(128);
+		DtoSchemas.TRANSACTION_CREATE.write(out, dto);
+		TransactionCreateDto decoded = DtoSchemas.TRANSACTION_CREATE.read(new BinaryReader(out.buffer().flip()));
+
+		assertEquals(HASH, decoded.getHash());
+		assertNull(decoded.getDigest());
+	}
+
+	private static byte[] written(BinaryWriter out) {
+		ByteBuffer buffer = out.buffer().duplicate().flip();
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return bytes;
+	}
+}
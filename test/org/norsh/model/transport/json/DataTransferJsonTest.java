@@ -0,0 +1,133 @@
+package org.norsh.model.transport.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.norsh.exceptions.OperationStatus;
+import org.norsh.model.dtos.transactions.TransactionCreateDto;
+import org.norsh.model.transport.DataTransfer;
+import org.norsh.model.transport.DataTransferBatch;
+import org.norsh.model.transport.TypeRegistry;
+import org.norsh.model.types.Hash256;
+import org.norsh.rest.RestMethod;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Byte-for-byte equality of the generated codecs and of {@link DataTransferJson} with a default {@link ObjectMapper}.
+ * <p>
+ * Every registered DTO is checked empty and with all of its properties set, so a field added to a DTO without
+ * regenerating its codec, or a codec writing fields in another order, fails here.
+ * </p>
+ */
+class DataTransferJsonTest {
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final DataTransferJson json = new DataTransferJson();
+
+	@Test
+	void generatedCodecsMatchObjectMapper() throws Exception {
+		for (Class<?> type : TypeRegistry.TYPES) {
+			assertSameJson(type.getSimpleName() + " (empty)", type.getDeclaredConstructor().newInstance());
+			assertSameJson(type.getSimpleName(), populated(type));
+		}
+	}
+
+	@Test
+	void dataTransferMatchesObjectMapper() throws Exception {
+		DataTransfer transfer = new DataTransfer("request-1", RestMethod.POST, populated(TransactionCreateDto.class));
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("balance", new BigDecimal("10.25"));
+		response.put("tags", List.of("a", "b"));
+		transfer.setResponseData(response);
+		transfer.setMessage("Processing");
+
+		assertEquals(utf8(mapper.writeValueAsBytes(transfer)), utf8(json.encode(transfer)));
+		assertEquals(utf8(mapper.writeValueAsBytes(transfer.toResponse())), utf8(json.encode(transfer.toResponse())));
+	}
+
+	@Test
+	void dataTransferBatchMatchesObjectMapper() throws Exception {
+		DataTransferBatch batch = DataTransferBatch.of("batch-1", List.of(
+				new DataTransfer("request-1", RestMethod.POST, populated(TransactionCreateDto.class)),
+				new DataTransfer("request-2", RestMethod.POST, new TransactionCreateDto())));
+
+		assertEquals(utf8(mapper.writeValueAsBytes(batch)), utf8(json.encodeBatch(batch)));
+	}
+
+	@Test
+	void writesValuesWithoutCodecThroughObjectMapper() throws Exception {
+		DataTransfer transfer = new DataTransfer("request-1", OperationStatus.OK, new Point(3, 4));
+		assertEquals(utf8(mapper.writeValueAsBytes(transfer)), utf8(json.encode(transfer)));
+	}
+
+	private void assertSameJson(String label, Object dto) throws IOException {
+		@SuppressWarnings("unchecked")
+		JsonCodec<Object> codec = (JsonCodec<Object>) JsonValues.codecOf(dto.getClass());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (JsonGenerator generator = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+			codec.write(generator, dto);
+		}
+		assertEquals(utf8(mapper.writeValueAsBytes(dto)), utf8(out.toByteArray()), label);
+	}
+
+	/** Compares as text for readable failures; both sides are UTF-8 bytes of the same generator type. */
+	private static String utf8(byte[] json) {
+		return new String(json, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Sets every property of a DTO through its setters, with a value derived from the property name.
+	 */
+	private static Object populated(Class<?> type) throws Exception {
+		Object dto = type.getDeclaredConstructor().newInstance();
+		for (Method method : type.getMethods()) {
+			if (!method.getName().startsWith("set") || method.getParameterCount() != 1 || Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+			Object value = sample(method.getName().substring(3), method.getParameterTypes()[0]);
+			if (value != null) {
+				method.invoke(dto, value);
+			}
+		}
+		return dto;
+	}
+
+	private static Object sample(String name, Class<?> type) throws Exception {
+		if (type == String.class) {
+			return name.toLowerCase() + "-é😀\"";
+		} else if (type == Long.class || type == long.class) {
+			return (long) name.length() * 1_000_000_007L;
+		} else if (type == Integer.class || type == int.class) {
+			return name.length();
+		} else if (type == Double.class || type == double.class) {
+			return name.length() + 0.25;
+		} else if (type == BigDecimal.class) {
+			return new BigDecimal(name.length() + ".500");
+		} else if (type == Boolean.class || type == boolean.class) {
+			return Boolean.TRUE;
+		} else if (type.isEnum()) {
+			return type.getEnumConstants()[type.getEnumConstants().length - 1];
+		} else if (type == byte[].class || type == Hash256.class) {
+			// Raw digests, not part of the JSON
+			return null;
+		} else if (TypeRegistry.TYPES.contains(type)) {
+			return populated(type);
+		}
+		return null;
+	}
+
+	public record Point(int x, int y) {
+	}
+}